@@ -0,0 +1,44 @@
+package com.eventsphere.event.benchmark;
+
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.adapter.EventCreateDtoAdapter;
+import com.eventsphere.event.model.dto.adapter.EventUpdateDtoAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost of the create/update DTO adapters, with category lookups served from memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AdapterBenchmark {
+
+    private EventCreateDtoAdapter createAdapter;
+    private EventUpdateDtoAdapter updateAdapter;
+    private EventCreateDto createDto;
+    private EventUpdateDto updateDto;
+
+    @Setup
+    public void setUp() {
+        createAdapter = new EventCreateDtoAdapter(BenchmarkData.categoryService());
+        updateAdapter = new EventUpdateDtoAdapter(BenchmarkData.categoryService());
+        createDto = BenchmarkData.createDto();
+        updateDto = BenchmarkData.updateDto();
+    }
+
+    @Benchmark
+    public Event fromDto() {
+        return createAdapter.fromDto(createDto);
+    }
+
+    @Benchmark
+    public Set<EventField> updateEventFromDto() {
+        return updateAdapter.updateEventFromDto(BenchmarkData.event(1L), updateDto);
+    }
+}
@@ -0,0 +1,95 @@
+package com.eventsphere.event.benchmark;
+
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.service.CategoryService;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Sample data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final Category CATEGORY = category();
+
+    private BenchmarkData() {
+    }
+
+    private static Category category() {
+        Category category = new Category(1L, "Music");
+        category.setCreatedAt(Timestamp.valueOf("2023-05-31 10:00:00"));
+        category.setUpdatedAt(Timestamp.valueOf("2023-05-31 10:00:00"));
+        return category;
+    }
+
+    static Event event(long id) {
+        return Event.builder()
+                .id(id)
+                .creatorId(1L)
+                .title("Music Concert " + id)
+                .description("Join us for an evening of live music performances by renowned artists.")
+                .imageUrl("https://example.com/concert.jpg")
+                .location("City Concert Hall")
+                .date(Date.valueOf("2123-06-15"))
+                .time(Time.valueOf("19:00:00"))
+                .startsAt(Timestamp.valueOf("2123-06-15 19:00:00"))
+                .createdAt(Timestamp.valueOf("2023-05-31 10:00:00"))
+                .updatedAt(Timestamp.valueOf("2023-05-31 10:00:00"))
+                .category(CATEGORY)
+                .build();
+    }
+
+    static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            events.add(event(id));
+        }
+        return events;
+    }
+
+    static List<EventView> views(int count) {
+        return events(count).stream().map(EventView::of).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    static EventCreateDto createDto() {
+        return new EventCreateDto(1L, "Music Concert", "Live music", "https://example.com/concert.jpg",
+                "City Concert Hall", Date.valueOf("2123-06-15"), Time.valueOf("19:00:00"), "Music");
+    }
+
+    static EventCreateDto invalidCreateDto() {
+        return new EventCreateDto(null, "M", "Live music", null, "Ci", Date.valueOf("2001-06-15"), null, null);
+    }
+
+    static EventUpdateDto updateDto() {
+        EventUpdateDto dto = new EventUpdateDto();
+        dto.setTitle("Updated Concert");
+        dto.setCategory("Music");
+        return dto;
+    }
+
+    /**
+     * Category lookups answered from memory, so adapter benchmarks measure mapping only.
+     */
+    static CategoryService categoryService() {
+        return new CategoryService(null, null, null, null, null, null) {
+            @Override
+            public Category get(String name) {
+                return CATEGORY;
+            }
+
+            @Override
+            public Category getReference(Long id) {
+                return CATEGORY;
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.eventsphere.event.benchmark;
+
+import com.eventsphere.event.controller.EventController;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.util.LinkTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Per-page cost of adding a {@code get-event} link to every element of a list response:
+ * {@code linkTo(methodOn(...))} per element versus a {@link LinkTemplate} resolved once per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LinkBuildingBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private MockHttpServletRequest request;
+    private List<Event> events;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/v1/events");
+        events = BenchmarkData.events(size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private List<Event> freshPage() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        for (Event event : events) {
+            event.removeLinks();
+        }
+        return events;
+    }
+
+    @Benchmark
+    public List<Event> methodOnPerElement() {
+        List<Event> page = freshPage();
+        for (Event event : page) {
+            event.add(linkTo(methodOn(EventController.class).getEvent(event.getId(), null)).withRel("get-event"));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<Event> linkTemplate() {
+        List<Event> page = freshPage();
+        LinkTemplate eventLinks = LinkTemplate.of(EventController.class);
+        for (Event event : page) {
+            event.add(eventLinks.item(event.getId(), "get-event"));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,142 @@
+package com.eventsphere.event.benchmark;
+
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.CategoryWithEventsDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization cost of the main response types, as HAL JSON, XML, CBOR and Smile. Managed entities and
+ * the read-only views returned by the GET endpoints are compared side by side; run with {@code -prof gc} to
+ * compare allocation per event. Payload sizes per format are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper json;
+    private XmlMapper xml;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+    private Event event;
+    private CollectionModel<Event> events;
+    private CollectionModel<EventView> views;
+    private CategoryWithEventsDto categoryWithEvents;
+
+    @Setup
+    public void setUp() {
+        json = hal(new ObjectMapper());
+        xml = new XmlMapper();
+        xml.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cbor = hal(new CBORMapper());
+        smile = hal(new SmileMapper());
+
+        event = BenchmarkData.event(1L);
+        event.add(Link.of("http://localhost/v1/events/1").withSelfRel());
+
+        List<Event> list = BenchmarkData.events(size);
+        list.forEach(e -> e.add(Link.of("http://localhost/v1/events/" + e.getId(), "get-event")));
+        events = CollectionModel.of(list, Link.of("http://localhost/v1/events").withSelfRel());
+
+        List<EventView> viewList = BenchmarkData.views(size);
+        viewList.forEach(v -> v.add(Link.of("http://localhost/v1/events/" + v.getId(), "get-event")));
+        views = CollectionModel.of(viewList, Link.of("http://localhost/v1/events").withSelfRel());
+
+        categoryWithEvents = new CategoryWithEventsDto(BenchmarkData.CATEGORY,
+                new SliceImpl<>(BenchmarkData.views(size), PageRequest.of(0, size), true), null);
+    }
+
+    @TearDown(Level.Trial)
+    public void printPayloadSizes() throws Exception {
+        System.out.printf("%nevent views (size=%d): json=%d xml=%d cbor=%d smile=%d bytes%n", size,
+                json.writeValueAsBytes(views).length, xml.writeValueAsBytes(views).length,
+                cbor.writeValueAsBytes(views).length, smile.writeValueAsBytes(views).length);
+    }
+
+    private static ObjectMapper hal(ObjectMapper mapper) {
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return mapper;
+    }
+
+    @Benchmark
+    public byte[] eventJson() throws Exception {
+        return json.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] eventXml() throws Exception {
+        return xml.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] eventCollectionJson() throws Exception {
+        return json.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] eventCollectionXml() throws Exception {
+        return xml.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] eventViewCollectionJson() throws Exception {
+        return json.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    public byte[] eventViewCollectionXml() throws Exception {
+        return xml.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    public byte[] eventViewCollectionCbor() throws Exception {
+        return cbor.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    public byte[] eventViewCollectionSmile() throws Exception {
+        return smile.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    public byte[] categoryWithEventsJson() throws Exception {
+        return json.writeValueAsBytes(categoryWithEvents);
+    }
+
+    @Benchmark
+    public byte[] categoryWithEventsXml() throws Exception {
+        return xml.writeValueAsBytes(categoryWithEvents);
+    }
+
+    @Benchmark
+    public byte[] categoryWithEventsCbor() throws Exception {
+        return cbor.writeValueAsBytes(categoryWithEvents);
+    }
+
+    @Benchmark
+    public byte[] categoryWithEventsSmile() throws Exception {
+        return smile.writeValueAsBytes(categoryWithEvents);
+    }
+}
@@ -0,0 +1,108 @@
+package com.eventsphere.event.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-model load generator: a fixed number of clients, each on its own virtual thread and HTTP
+ * connection, send a request and wait for the answer before sending the next one. Throughput then shows
+ * how many concurrent connections the service can keep busy, which is what the virtual-thread mode
+ * changes; latency is measured per request.
+ */
+class ClosedModelDriver implements LoadDriver {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final LoadTestConfig config;
+    private final Scenario[] schedule;
+
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+    private final LongAdder issued = new LongAdder();
+
+    ClosedModelDriver(HttpClient client, String baseUrl, Dataset dataset, LoadTestConfig config) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.config = config;
+        this.schedule = Scenario.weightedSchedule(config.getMix());
+
+        for (Scenario scenario : Scenario.values()) {
+            latencies.put(scenario, new ConcurrentHistogram(3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    @Override
+    public long run(Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        issued.reset();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.getConnections(); i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        send(schedule[ThreadLocalRandom.current().nextInt(schedule.length)]);
+                    }
+                });
+            }
+        }
+
+        return issued.sum();
+    }
+
+    private void send(Scenario scenario) {
+        long start = System.nanoTime();
+        boolean failed;
+
+        try {
+            HttpResponse<Void> response = client.send(scenario.request(baseUrl, dataset, config),
+                    HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        latencies.get(scenario).recordValue(Math.max((System.nanoTime() - start) / 1_000, 1));
+        if (failed) {
+            errors.get(scenario).increment();
+        }
+        issued.increment();
+    }
+
+    @Override
+    public void reset() {
+        latencies.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    @Override
+    public Map<Scenario, Histogram> getLatencies() {
+        return latencies;
+    }
+
+    @Override
+    public Map<Scenario, LongAdder> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public long getDropped() {
+        return 0;
+    }
+}
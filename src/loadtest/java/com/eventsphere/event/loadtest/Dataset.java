@@ -0,0 +1,130 @@
+package com.eventsphere.event.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds the database with a configurable dataset and picks random keys from it.
+ */
+class Dataset {
+
+    private static final String[] WORDS = {
+            "concert", "jazz", "festival", "workshop", "conference", "marathon", "exhibition", "theatre",
+            "meetup", "comedy", "football", "yoga", "wine", "book", "film", "startup"
+    };
+
+    private static final int INSERT_BATCH = 1000;
+
+    private static final int MAX_SAMPLED_EVENT_IDS = 100_000;
+
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    private long[] eventIds = new long[0];
+
+    static String randomWord() {
+        return WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+    }
+
+    long randomEventId() {
+        return eventIds[ThreadLocalRandom.current().nextInt(eventIds.length)];
+    }
+
+    long randomCategoryId() {
+        return categoryIds.get(ThreadLocalRandom.current().nextInt(categoryIds.size()));
+    }
+
+    String randomCategoryName() {
+        return categoryNames.get(ThreadLocalRandom.current().nextInt(categoryNames.size()));
+    }
+
+    /**
+     * Insert the configured number of categories and events with JDBC batches, then load the key ranges.
+     */
+    void seed(DataSource dataSource, LoadTestConfig config) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            seedCategories(connection, config.getCategories());
+            seedEvents(connection, config.getEvents());
+            connection.commit();
+            loadKeys(connection);
+        }
+    }
+
+    private void seedCategories(Connection connection, int count) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO category (name) VALUES (?) ON CONFLICT (name) DO NOTHING")) {
+            for (int i = 0; i < count; i++) {
+                insert.setString(1, "Load Category " + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void seedEvents(Connection connection, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM category")) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO \"event\" (creator_id, category_id, title, description, location, date, time, starts_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < count; i++) {
+                LocalDate date = LocalDate.now().plusDays(random.nextInt(-30, 365));
+                LocalTime time = LocalTime.of(random.nextInt(8, 23), 0);
+
+                insert.setLong(1, random.nextLong(1, 1000));
+                insert.setLong(2, ids.get(random.nextInt(ids.size())));
+                insert.setString(3, randomWord() + " " + randomWord() + " " + i);
+                insert.setString(4, "A " + randomWord() + " and " + randomWord() + " event");
+                insert.setString(5, "Hall " + random.nextInt(100));
+                insert.setDate(6, Date.valueOf(date));
+                insert.setTime(7, Time.valueOf(time));
+                insert.setTimestamp(8, Timestamp.valueOf(date.atTime(time)));
+                insert.addBatch();
+
+                if ((i + 1) % INSERT_BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void loadKeys(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery("SELECT id, name FROM category ORDER BY id")) {
+                while (rows.next()) {
+                    categoryIds.add(rows.getLong(1));
+                    categoryNames.add(rows.getString(2));
+                }
+            }
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT id FROM \"event\" ORDER BY random() LIMIT " + MAX_SAMPLED_EVENT_IDS)) {
+                while (rows.next()) {
+                    ids.add(rows.getLong(1));
+                }
+            }
+            eventIds = ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.eventsphere.event.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Workload generator whose per-scenario latencies and errors are reported by {@link LoadTestHarness}.
+ */
+interface LoadDriver {
+
+    /**
+     * Drive the workload for the given duration and wait for outstanding requests.
+     *
+     * @param duration how long to keep issuing requests
+     * @return the number of requests issued
+     */
+    long run(Duration duration) throws InterruptedException;
+
+    void reset();
+
+    Map<Scenario, Histogram> getLatencies();
+
+    Map<Scenario, LongAdder> getErrors();
+
+    long getDropped();
+}
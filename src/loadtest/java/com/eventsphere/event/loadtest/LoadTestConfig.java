@@ -0,0 +1,60 @@
+package com.eventsphere.event.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from system properties.
+ */
+@Getter
+class LoadTestConfig {
+
+    /** Target arrival rate in requests per second, independent of response times. */
+    private final int rate = Integer.getInteger("loadtest.rate", 500);
+
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+
+    /** Requests still in flight beyond this are counted as dropped instead of being sent. */
+    private final int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 10_000);
+
+    /**
+     * Number of concurrent client connections for the closed-model workload; when positive it replaces the
+     * open-model arrival rate.
+     */
+    private final int connections = Integer.getInteger("loadtest.connections", 0);
+
+    private final int categories = Integer.getInteger("loadtest.categories", 10);
+
+    private final int events = Integer.getInteger("loadtest.events", 100_000);
+
+    private final int batchSize = Integer.getInteger("loadtest.batch-size", 100);
+
+    /** JDBC URL of a local PostgreSQL database; when unset an embedded PostgreSQL is started. */
+    private final String jdbcUrl = System.getProperty("loadtest.jdbc-url");
+
+    private final String jdbcUser = System.getProperty("loadtest.jdbc-user", "postgres");
+
+    private final String jdbcPassword = System.getProperty("loadtest.jdbc-password", "postgres");
+
+    private final Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest"));
+
+    private final Map<Scenario, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+            "list=25,get=35,categories=10,upcoming=15,search=5,create=5,update=4,batch=1"));
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Scenario.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+
+        return weights;
+    }
+}
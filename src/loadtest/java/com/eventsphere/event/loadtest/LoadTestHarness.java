@@ -0,0 +1,137 @@
+package com.eventsphere.event.loadtest;
+
+import com.eventsphere.event.EventServiceApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the service against a local PostgreSQL (embedded unless {@code loadtest.jdbc-url} is set),
+ * seeds a dataset, drives a mixed workload and reports HDR latency percentiles. The workload is open-model
+ * at {@code loadtest.rate}, or closed-model over {@code loadtest.connections} concurrent connections.
+ * <p>
+ * Options (system properties): {@code loadtest.rate}, {@code loadtest.connections}, {@code loadtest.warmup},
+ * {@code loadtest.duration}, {@code loadtest.max-in-flight}, {@code loadtest.categories},
+ * {@code loadtest.events}, {@code loadtest.batch-size}, {@code loadtest.mix}, {@code loadtest.jdbc-url},
+ * {@code loadtest.jdbc-user}, {@code loadtest.jdbc-password}, {@code loadtest.output}. Any other
+ * {@code --key=value} program argument is passed to the service, e.g. {@code --server.tomcat.threads.max=400}
+ * or {@code --eventsphere.threads.virtual.enabled=true}.
+ * <p>
+ * Service options are passed through {@code -Dloadtest.app.args}, e.g. the virtual-thread comparison at 2000
+ * connections:
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args=-Dloadtest.connections=2000
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args=-Dloadtest.connections=2000 \
+ *     -Dloadtest.app.args=--eventsphere.threads.virtual.enabled=true
+ * </pre>
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        EmbeddedPostgres postgres = null;
+        String jdbcUrl = config.getJdbcUrl();
+
+        if (jdbcUrl == null) {
+            postgres = EmbeddedPostgres.builder().start();
+            jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+        }
+
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?")
+                        + "currentSchema=event_service_schema",
+                "--spring.datasource.username=" + config.getJdbcUser(),
+                "--spring.datasource.password=" + config.getJdbcPassword()
+        ));
+        appArgs.addAll(List.of(args));
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(EventServiceApplication.class,
+                appArgs.toArray(String[]::new))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            Dataset dataset = new Dataset();
+            long seedStart = System.nanoTime();
+            dataset.seed(context.getBean(DataSource.class), config);
+            System.out.printf("Seeded %d categories and %d events in %d ms%n", config.getCategories(),
+                    config.getEvents(), Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2))
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadDriver driver = config.getConnections() > 0
+                    ? new ClosedModelDriver(client, baseUrl, dataset, config)
+                    : new OpenModelDriver(client, baseUrl, dataset, config);
+
+            driver.run(config.getWarmup());
+            driver.reset();
+
+            long start = System.nanoTime();
+            long issued = driver.run(config.getDuration());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            report(driver, issued, seconds, config);
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    private static void report(LoadDriver driver, long issued, double seconds, LoadTestConfig config)
+            throws IOException {
+        Files.createDirectories(config.getOutput());
+        PrintStream out = System.out;
+
+        if (config.getConnections() > 0) {
+            out.printf("%n%d connections, completed %d requests in %.1f s (%.0f req/s)%n",
+                    config.getConnections(), issued, seconds, issued / seconds);
+        } else {
+            out.printf("%nTarget rate %d req/s, issued %d requests in %.1f s (%.0f req/s), dropped %d%n",
+                    config.getRate(), issued, seconds, issued / seconds, driver.getDropped());
+        }
+        out.printf("%-12s %10s %10s %10s %10s %10s %10s %8s%n",
+                "scenario", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+
+        for (Map.Entry<Scenario, Histogram> entry : driver.getLatencies().entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+
+            out.printf("%-12s %10d %10.0f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    entry.getKey().getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    driver.getErrors().get(entry.getKey()).sum());
+
+            try (PrintStream hgrm = new PrintStream(
+                    config.getOutput().resolve(entry.getKey().getKey() + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+
+        out.printf("%nHistograms (ms) written to %s%n", config.getOutput().toAbsolutePath());
+    }
+}
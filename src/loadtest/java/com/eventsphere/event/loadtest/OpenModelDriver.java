@@ -0,0 +1,112 @@
+package com.eventsphere.event.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued on a fixed arrival schedule regardless of how fast the
+ * service answers, and latency is measured from the intended start time, so queueing delay is not hidden
+ * (no coordinated omission).
+ */
+class OpenModelDriver implements LoadDriver {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final LoadTestConfig config;
+    private final Scenario[] schedule;
+
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelDriver(HttpClient client, String baseUrl, Dataset dataset, LoadTestConfig config) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.config = config;
+        this.schedule = Scenario.weightedSchedule(config.getMix());
+
+        for (Scenario scenario : Scenario.values()) {
+            latencies.put(scenario, new ConcurrentHistogram(3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    @Override
+    public long run(Duration duration) {
+        long intervalNanos = 1_000_000_000L / config.getRate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long issued = 0;
+
+        for (long intended = start; intended < end; intended = start + issued * intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            issue(schedule[ThreadLocalRandom.current().nextInt(schedule.length)], intended);
+            issued++;
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(1_000_000);
+        }
+
+        return issued;
+    }
+
+    private void issue(Scenario scenario, long intendedStart) {
+        if (inFlight.incrementAndGet() > config.getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+
+        client.sendAsync(scenario.request(baseUrl, dataset, config), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long micros = (System.nanoTime() - intendedStart) / 1_000;
+                    latencies.get(scenario).recordValue(Math.max(micros, 1));
+
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.get(scenario).increment();
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    @Override
+    public void reset() {
+        latencies.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+    }
+
+    @Override
+    public Map<Scenario, Histogram> getLatencies() {
+        return latencies;
+    }
+
+    @Override
+    public Map<Scenario, LongAdder> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,124 @@
+package com.eventsphere.event.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request types of the mixed workload.
+ */
+enum Scenario {
+    LIST("list") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            return get(baseUrl + "/v1/events?limit=20");
+        }
+    },
+    GET("get") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            return get(baseUrl + "/v1/events/" + dataset.randomEventId());
+        }
+    },
+    CATEGORIES("categories") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            return get(baseUrl + "/v1/categories");
+        }
+    },
+    UPCOMING("upcoming") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            return get(baseUrl + "/v1/categories/" + dataset.randomCategoryId() + "/events?upcoming=true&size=20");
+        }
+    },
+    SEARCH("search") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            return get(baseUrl + "/v1/events/search?q=" + Dataset.randomWord());
+        }
+    },
+    CREATE("create") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            return json(baseUrl + "/v1/events", "POST", eventJson(dataset));
+        }
+    },
+    UPDATE("update") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            String body = "{\"title\":\"Updated " + Dataset.randomWord() + "\"}";
+            return json(baseUrl + "/v1/events/" + dataset.randomEventId(), "PATCH", body);
+        }
+    },
+    BATCH("batch") {
+        @Override
+        HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < config.getBatchSize(); i++) {
+                body.append(i == 0 ? "" : ",").append(eventJson(dataset));
+            }
+            return json(baseUrl + "/v1/events/batch", "POST", body.append(']').toString());
+        }
+    };
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    abstract HttpRequest request(String baseUrl, Dataset dataset, LoadTestConfig config);
+
+    String getKey() {
+        return key;
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario " + key);
+    }
+
+    /**
+     * Expand scenario weights into a lookup table sampled uniformly by the drivers.
+     */
+    static Scenario[] weightedSchedule(Map<Scenario, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Scenario[] schedule = new Scenario[total];
+        int i = 0;
+
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            for (int w = 0; w < entry.getValue(); w++) {
+                schedule[i++] = entry.getKey();
+            }
+        }
+
+        return schedule;
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json").GET().build();
+    }
+
+    private static HttpRequest json(String uri, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String eventJson(Dataset dataset) {
+        LocalDate date = LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(1, 365));
+
+        return "{\"creatorId\":1,\"title\":\"Load " + Dataset.randomWord() + "\",\"description\":\"Generated\"," +
+                "\"location\":\"City Concert Hall\",\"date\":\"" + date + "\",\"time\":\"19:00:00\"," +
+                "\"category\":\"" + dataset.randomCategoryName() + "\"}";
+    }
+}
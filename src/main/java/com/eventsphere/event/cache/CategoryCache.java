@@ -0,0 +1,151 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.model.Category;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of categories, keyed by id and by name. Concurrent misses of the same id or name
+ * share one database lookup, and cached categories can optionally be served stale while one background
+ * lookup refreshes them.
+ * <p>
+ * Cached instances are never handed out: callers always get a fresh copy, so adding HATEOAS links
+ * or events to a returned category cannot leak into the cache.
+ */
+@Component
+public class CategoryCache {
+
+    private static final String ALL_KEY = "all";
+
+    private final SingleFlightCache<Long, Category> byId;
+
+    private final Cache<String, Long> idByName;
+
+    private final Cache<String, List<Category>> all;
+
+    public CategoryCache(
+            @Value("${eventsphere.category-cache.maximum-size:1000}") long maximumSize,
+            @Value("${eventsphere.category-cache.ttl:PT5M}") Duration ttl,
+            @Value("${eventsphere.category-cache.stale-while-revalidate:PT0S}") Duration staleWhileRevalidate,
+            MeterRegistry meterRegistry
+    ) {
+        this.byId = new SingleFlightCache<>("categories.by-id", maximumSize, ttl, staleWhileRevalidate, meterRegistry);
+        this.idByName = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        this.all = Caffeine.newBuilder().maximumSize(1).expireAfterWrite(ttl).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, idByName, "categories.by-name");
+        CaffeineCacheMetrics.monitor(meterRegistry, all, "categories.all");
+    }
+
+    /**
+     * Get a category by id, loading it on a miss.
+     *
+     * @param id     the category id
+     * @param loader the database lookup used on a miss
+     * @return a copy of the cached category, or empty if it does not exist
+     */
+    public Optional<Category> get(Long id, Function<Long, Optional<Category>> loader) {
+        if (id == null) {
+            return loader.apply(null);
+        }
+
+        Optional<Category> cached = byId.get(id, key -> loader.apply(key).map(CategoryCache::copyOf));
+        cached.ifPresent(category -> idByName.put(category.getName(), category.getId()));
+
+        return cached.map(CategoryCache::copyOf);
+    }
+
+    /**
+     * Get a category by name, loading it on a miss.
+     *
+     * @param name   the category name
+     * @param loader the database lookup used on a miss
+     * @return a copy of the cached category, or empty if it does not exist
+     */
+    public Optional<Category> get(String name, Supplier<Optional<Category>> loader) {
+        if (name == null) {
+            return loader.get();
+        }
+
+        Long id = idByName.get(name, key -> loader.get()
+                .filter(category -> category.getId() != null)
+                .map(category -> {
+                    byId.put(category.getId(), copyOf(category));
+                    return category.getId();
+                })
+                .orElse(null));
+
+        Category cached = id != null ? byId.getIfPresent(id) : null;
+        if (cached != null && name.equals(cached.getName())) {
+            return Optional.of(copyOf(cached));
+        }
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        // The category was evicted or renamed since its id was cached
+        idByName.invalidate(name);
+        Optional<Category> loaded = loader.get();
+        loaded.ifPresent(this::put);
+
+        return loaded.map(CategoryCache::copyOf);
+    }
+
+    /**
+     * Get all categories, loading them on a miss.
+     *
+     * @param loader the database lookup used on a miss
+     * @return copies of all cached categories
+     */
+    public List<Category> getAll(Supplier<List<Category>> loader) {
+        List<Category> cached = all.get(ALL_KEY, key -> {
+            List<Category> loaded = loader.get().stream().map(CategoryCache::copyOf).toList();
+            loaded.forEach(this::put);
+            return loaded;
+        });
+
+        List<Category> copies = new ArrayList<>(cached.size());
+        for (Category category : cached) {
+            copies.add(copyOf(category));
+        }
+
+        return copies;
+    }
+
+    /**
+     * Drop every cached entry. Called after any category write.
+     */
+    public void invalidate() {
+        all.invalidateAll();
+        byId.invalidateAll();
+        idByName.invalidateAll();
+    }
+
+    private void put(Category category) {
+        if (category.getId() == null || category.getName() == null) {
+            return;
+        }
+
+        byId.put(category.getId(), copyOf(category));
+        idByName.put(category.getName(), category.getId());
+    }
+
+    private static Category copyOf(Category category) {
+        Category copy = new Category(category.getId(), category.getName());
+        copy.setCreatedAt(category.getCreatedAt());
+        copy.setUpdatedAt(category.getUpdatedAt());
+
+        return copy;
+    }
+}
@@ -0,0 +1,123 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.CategoryEventCounts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived cache of per-category event counts.
+ * <p>
+ * Committed event, category and import changes made by this instance invalidate the affected counts right
+ * away; changes made elsewhere show up within the configured TTL.
+ */
+@Component
+public class EventCountCache {
+
+    private static final String ALL_KEY = "all";
+
+    private final Cache<String, Long> counts;
+
+    private final Cache<String, Map<Long, CategoryEventCounts>> grouped;
+
+    public EventCountCache(
+            @Value("${eventsphere.event-count-cache.maximum-size:10000}") long maximumSize,
+            @Value("${eventsphere.event-count-cache.ttl:PT1M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.counts = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+
+        this.grouped = Caffeine.newBuilder().maximumSize(1).expireAfterWrite(ttl).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "events.count");
+        CaffeineCacheMetrics.monitor(meterRegistry, grouped, "events.count.grouped");
+    }
+
+    /**
+     * Get the number of events of a category, counting them on a miss.
+     *
+     * @param categoryId the category id
+     * @param upcoming   whether only upcoming events are counted
+     * @param loader     the count query used on a miss
+     * @return the cached count
+     */
+    public long count(Long categoryId, boolean upcoming, Supplier<Long> loader) {
+        return counts.get(key(categoryId, upcoming), key -> loader.get());
+    }
+
+    /**
+     * Get the event counts of every category, running the grouped count query on a miss.
+     *
+     * @param loader the grouped count query used on a miss
+     * @return the cached counts by category id; categories without events are absent
+     */
+    public Map<Long, CategoryEventCounts> countAll(Supplier<List<CategoryEventCounts>> loader) {
+        return grouped.get(ALL_KEY, key -> loader.get().stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryEventCounts::getCategoryId, Function.identity())));
+    }
+
+    /**
+     * Drop the counts of the category of a committed event change that can change them.
+     *
+     * @param change the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        if (change.getType() != ChangeType.UPDATED || change.getFields().contains(EventField.DATE)
+                || change.getFields().contains(EventField.TIME) || change.getFields().contains(EventField.CATEGORY)) {
+            EventView.CategoryView category = change.getEvent().getCategory();
+            invalidateCategory(category != null ? category.getId() : null);
+            if (change.getPreviousCategoryId() != null) {
+                invalidateCategory(change.getPreviousCategoryId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChange(CategoryChange change) {
+        invalidateCategory(change.getCategoryId());
+    }
+
+    /**
+     * Drop every count after a committed CSV import, which changes the counts of any number of categories.
+     *
+     * @param imported the import
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsImported(EventsImported imported) {
+        invalidateAll();
+    }
+
+    private void invalidateCategory(Long categoryId) {
+        if (categoryId != null) {
+            counts.invalidateAll(List.of(key(categoryId, true), key(categoryId, false)));
+        }
+        grouped.invalidateAll();
+    }
+
+    private static String key(Long categoryId, boolean upcoming) {
+        return categoryId + (upcoming ? ":upcoming" : ":all");
+    }
+
+    private void invalidateAll() {
+        counts.invalidateAll();
+        grouped.invalidateAll();
+    }
+}
@@ -0,0 +1,64 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.config.ReplicaRoutingDataSource;
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.dto.EventView;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Short-lived, coalescing cache of event views for the event detail GET, so that a burst of requests for
+ * one event is served by a single query.
+ * <p>
+ * Committed changes made by this instance invalidate the view right away; changes made elsewhere show up
+ * within the TTL plus the stale-while-revalidate window. Requests inside their read-your-writes window, which
+ * read-replica routing sends to the primary, bypass the cache, so a client always reads its own writes even
+ * when they were made on another instance. Views are copied on the way out, so links added to a returned view
+ * never leak into the cache.
+ */
+@Component
+public class EventViewCache {
+
+    private final SingleFlightCache<Long, EventView> views;
+
+    public EventViewCache(
+            @Value("${eventsphere.event-view-cache.maximum-size:10000}") long maximumSize,
+            @Value("${eventsphere.event-view-cache.ttl:PT1S}") Duration ttl,
+            @Value("${eventsphere.event-view-cache.stale-while-revalidate:PT0S}") Duration staleWhileRevalidate,
+            MeterRegistry meterRegistry
+    ) {
+        this.views = new SingleFlightCache<>("events.views", maximumSize, ttl, staleWhileRevalidate, meterRegistry);
+    }
+
+    /**
+     * Get an event view, loading it on a miss. Concurrent misses of the same id share one load.
+     *
+     * @param id     the event id
+     * @param loader the database lookup used on a miss
+     * @return a copy of the view, or empty if the event does not exist
+     */
+    public Optional<EventView> get(Long id, Function<Long, Optional<EventView>> loader) {
+        if (ReplicaRoutingDataSource.isPrimaryForced()) {
+            return loader.apply(id);
+        }
+
+        return views.get(id, loader).map(EventView::copy);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        views.invalidate(change.getEventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChange(CategoryChange change) {
+        views.invalidateAll();
+    }
+}
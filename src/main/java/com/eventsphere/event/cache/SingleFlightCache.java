@@ -0,0 +1,177 @@
+package com.eventsphere.event.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache that coalesces concurrent misses: while a key is being loaded, every other caller of the
+ * same key waits for that one load instead of querying the database itself.
+ * <p>
+ * Entries are fresh for {@code ttl}. Within the following {@code staleWhileRevalidate} they are still served,
+ * while a single background load replaces them; {@code Duration.ZERO} turns that off. A {@code ttl} of zero
+ * keeps only the coalescing. Empty results are coalesced but never cached, and a load that overlaps an
+ * invalidation of its key is handed to its callers but not cached.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@Slf4j
+public class SingleFlightCache<K, V> {
+
+    private final Cache<K, Entry<V>> entries;
+
+    private final ConcurrentMap<K, CompletableFuture<Optional<V>>> inFlight = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+
+    private final boolean revalidate;
+
+    private final Executor executor;
+
+    private final Ticker ticker;
+
+    private final Counter coalesced;
+
+    private final Counter revalidations;
+
+    public SingleFlightCache(String name, long maximumSize, Duration ttl, Duration staleWhileRevalidate,
+                             MeterRegistry meterRegistry) {
+        this(name, maximumSize, ttl, staleWhileRevalidate, Executors.newVirtualThreadPerTaskExecutor(),
+                Ticker.systemTicker(), meterRegistry);
+    }
+
+    SingleFlightCache(String name, long maximumSize, Duration ttl, Duration staleWhileRevalidate, Executor executor,
+                      Ticker ticker, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl.plus(staleWhileRevalidate))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.ttlNanos = ttl.toNanos();
+        this.revalidate = !staleWhileRevalidate.isZero();
+        this.executor = executor;
+        this.ticker = ticker;
+        this.coalesced = meterRegistry.counter(name + ".coalesced");
+        this.revalidations = meterRegistry.counter(name + ".revalidations");
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, name);
+    }
+
+    /**
+     * Get a value, loading it on a miss. Concurrent misses of the same key share one load.
+     *
+     * @param key    the key
+     * @param loader the database lookup used on a miss, called on the calling thread
+     * @return the cached or loaded value
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry != null) {
+            if (revalidate && ticker.read() - entry.loadedAt() >= ttlNanos) {
+                load(key, loader, true);
+            }
+            return Optional.of(entry.value());
+        }
+
+        try {
+            return load(key, loader, false).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Get a cached value, fresh or stale, without loading it.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if it is not cached
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.getIfPresent(key);
+
+        return entry != null ? entry.value() : null;
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(value, ticker.read()));
+    }
+
+    public void invalidate(K key) {
+        inFlight.remove(key);
+        entries.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        inFlight.clear();
+        entries.invalidateAll();
+    }
+
+    private CompletableFuture<Optional<V>> load(K key, Function<K, Optional<V>> loader, boolean background) {
+        CompletableFuture<Optional<V>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            if (!background) {
+                coalesced.increment();
+            }
+            return running;
+        }
+
+        if (background) {
+            revalidations.increment();
+            executor.execute(() -> {
+                try {
+                    complete(key, loader, future);
+                } catch (RuntimeException ex) {
+                    log.warn("Revalidating {} failed, serving the stale value until it expires", key, ex);
+                }
+            });
+        } else {
+            complete(key, loader, future);
+        }
+
+        return future;
+    }
+
+    private void complete(K key, Function<K, Optional<V>> loader, CompletableFuture<Optional<V>> future) {
+        Optional<V> value;
+        try {
+            value = loader.apply(key);
+        } catch (Throwable ex) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+
+        // Only cache the value if the key was not invalidated while it loaded
+        inFlight.computeIfPresent(key, (k, running) -> {
+            if (running == future) {
+                value.ifPresentOrElse(v -> put(k, v), () -> entries.invalidate(k));
+                return null;
+            }
+            return running;
+        });
+        future.complete(value);
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
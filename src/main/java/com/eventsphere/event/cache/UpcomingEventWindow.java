@@ -0,0 +1,473 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory window of the events starting within the next {@code horizon}, kept per category in
+ * skip lists ordered like {@link EventRepository#findUpcomingEventsByCategory}, so that upcoming
+ * category pages are served without a query.
+ * <p>
+ * The window is kept current by committed {@link EventChange}s, rolls forward on every refresh by
+ * evicting started events and loading the next slice, and is periodically reconciled against the
+ * database. A committed {@link CategoryChange} makes the category fall back to the database until
+ * the next refresh has reloaded its events, and a committed {@link EventsImported} makes every
+ * category fall back until the next refresh has reloaded the whole window. A page is only served from
+ * memory if the window alone decides it, i.e. it is full or the category has no events beyond the
+ * horizon; otherwise the caller falls back to the database.
+ * <p>
+ * Only changes committed by this instance reach the window right away. Writes made on other instances,
+ * or bypassing the event services, are only seen by the next reconciliation, and until then pages served
+ * from memory miss or keep the events they changed. The window is therefore meant for single-instance
+ * deployments and is disabled by default; enable it with {@code eventsphere.upcoming-window.enabled=true}.
+ */
+@Slf4j
+@Component
+public class UpcomingEventWindow {
+
+    private final EventRepository eventRepository;
+
+    private final Clock clock;
+
+    private final boolean enabled;
+
+    private final Duration horizon;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter mismatches;
+
+    private volatile Map<Long, ConcurrentNavigableMap<Key, EventView>> byCategory = new ConcurrentHashMap<>();
+
+    private volatile Map<Long, Key> keysById = new ConcurrentHashMap<>();
+
+    private volatile Set<Long> beyondHorizon = ConcurrentHashMap.newKeySet();
+
+    private volatile Instant windowEnd;
+
+    private final Set<Long> staleCategories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Guards every change of the window; never held across a database load, so that the listeners,
+     * which run on the committing request threads, do not wait for one.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Serializes the refreshes and reconciliations, which load from the database.
+     */
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /**
+     * The changes applied while a load is running, replayed onto its result; {@code null} between loads.
+     */
+    private List<Object> recorded;
+
+    @Autowired
+    public UpcomingEventWindow(
+            EventRepository eventRepository,
+            @Value("${eventsphere.upcoming-window.enabled:false}") boolean enabled,
+            @Value("${eventsphere.upcoming-window.horizon:P21D}") Duration horizon,
+            MeterRegistry meterRegistry
+    ) {
+        this(eventRepository, Clock.systemDefaultZone(), enabled, horizon, meterRegistry);
+    }
+
+    UpcomingEventWindow(EventRepository eventRepository, Clock clock, boolean enabled, Duration horizon,
+                        MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.horizon = horizon;
+        this.hits = meterRegistry.counter("events.upcoming.window.requests", "result", "hit");
+        this.misses = meterRegistry.counter("events.upcoming.window.requests", "result", "miss");
+        this.mismatches = meterRegistry.counter("events.upcoming.window.mismatches");
+
+        Gauge.builder("events.upcoming.window.size", this, window -> window.keysById.size()).register(meterRegistry);
+    }
+
+    /**
+     * Get a page of the upcoming events of a category from memory.
+     *
+     * @param categoryId the category id
+     * @param pageable   the page to fetch
+     * @return a slice of copies of the event views, or empty if the window cannot answer the page
+     */
+    public Optional<Slice<EventView>> findUpcoming(Long categoryId, Pageable pageable) {
+        if (windowEnd == null || staleCategories.contains(categoryId)) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        ConcurrentNavigableMap<Key, EventView> events = byCategory.get(categoryId);
+        List<EventView> content = new ArrayList<>(pageable.getPageSize() + 1);
+
+        if (events != null) {
+            long skip = pageable.getOffset();
+            for (EventView event : events.tailMap(Key.from(clock.millis())).values()) {
+                if (skip > 0) {
+                    skip--;
+                } else if (content.size() <= pageable.getPageSize()) {
+                    content.add(event.copy());
+                } else {
+                    break;
+                }
+            }
+        }
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (!hasNext && beyondHorizon.contains(categoryId)) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content,
+                pageable, hasNext));
+    }
+
+    /**
+     * Roll the window forward: evict the events that have started and load the ones that entered
+     * the horizon since the last refresh. The first refresh loads the whole window, later ones also
+     * reload the categories changed since.
+     */
+    @Scheduled(fixedDelayString = "${eventsphere.upcoming-window.refresh-interval:PT1M}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        loadLock.lock();
+        try {
+            Instant now = clock.instant();
+            Instant end = now.plus(horizon);
+            Instant from = windowEnd;
+            Set<Long> stale = from != null ? Set.copyOf(staleCategories) : Set.of();
+
+            startRecording();
+            try {
+                List<EventView> entered = eventRepository.findViewsStartingBetween(
+                        Timestamp.from(from != null ? from : now), Timestamp.from(end));
+                Map<Long, List<EventView>> reloaded = new HashMap<>();
+                for (Long categoryId : stale) {
+                    reloaded.put(categoryId, eventRepository.findViewsByCategoryStartingBetween(categoryId,
+                            Timestamp.from(now), Timestamp.from(from)));
+                }
+                Set<Long> beyond = eventRepository.findCategoryIdsStartingFrom(Timestamp.from(end));
+
+                lock.lock();
+                try {
+                    if (from == null) {
+                        replaceLocked(entered, beyond, end);
+                    } else {
+                        evictLocked(now);
+                        reloaded.forEach(this::reloadCategoryLocked);
+                        entered.forEach(this::put);
+                        beyondHorizon = concurrentSet(beyond);
+                        windowEnd = end;
+                    }
+                    replayLocked();
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                stopRecording();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Compare the window with the database and rebuild it if they differ, e.g. after a write that
+     * bypassed the event services.
+     *
+     * @return the number of events that were missing, extra or stale in memory
+     */
+    @Scheduled(fixedDelayString = "${eventsphere.upcoming-window.reconcile-interval:PT30S}",
+            initialDelayString = "${eventsphere.upcoming-window.reconcile-interval:PT30S}")
+    public int reconcile() {
+        if (!enabled) {
+            return 0;
+        }
+
+        loadLock.lock();
+        try {
+            Instant end = windowEnd;
+            if (end == null) {
+                return 0;
+            }
+
+            Instant now = clock.instant();
+            startRecording();
+            try {
+                List<EventView> expected =
+                        eventRepository.findViewsStartingBetween(Timestamp.from(now), Timestamp.from(end));
+                Set<Long> beyond = eventRepository.findCategoryIdsStartingFrom(Timestamp.from(end));
+
+                lock.lock();
+                try {
+                    int differences = differencesLocked(expected, now);
+                    if (differences > 0) {
+                        log.warn("Upcoming event window differed from the database in {} events, reloading it",
+                                differences);
+                        mismatches.increment(differences);
+                        replaceLocked(expected, beyond, end);
+                    }
+                    replayLocked();
+                    return differences;
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                stopRecording();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Apply a committed event change to the window. Never waits for a database load: a change that
+     * commits while one is running is also replayed onto its result.
+     *
+     * @param change the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        lock.lock();
+        try {
+            if (recorded != null) {
+                recorded.add(change);
+            }
+            applyLocked(change);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Mark the category of a committed category change as stale: its pages fall back to the database
+     * until the next refresh reloads its events with the new category.
+     *
+     * @param change the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChange(CategoryChange change) {
+        if (change.getType() == ChangeType.CREATED) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (recorded != null) {
+                recorded.add(change);
+            }
+            staleCategories.add(change.getCategoryId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the window after a committed CSV import, whose events are not published one by one: every
+     * category falls back to the database until the next refresh reloads the whole window.
+     *
+     * @param imported the import
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsImported(EventsImported imported) {
+        lock.lock();
+        try {
+            if (recorded != null) {
+                recorded.add(imported);
+            }
+            windowEnd = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyLocked(EventChange change) {
+        if (windowEnd == null) {
+            return;
+        }
+
+        Key previous = keysById.remove(change.getEventId());
+        if (previous != null) {
+            ConcurrentNavigableMap<Key, EventView> events = byCategory.get(previous.categoryId);
+            if (events != null) {
+                events.remove(previous);
+            }
+        }
+
+        EventView event = change.getEvent();
+        if (change.getType() == ChangeType.DELETED || event.getStartsAt() == null || event.getCategory() == null) {
+            return;
+        }
+
+        long startsAt = event.getStartsAt().getTime();
+        if (startsAt >= windowEnd.toEpochMilli()) {
+            beyondHorizon.add(event.getCategory().getId());
+        } else if (startsAt >= clock.millis()) {
+            put(event);
+        }
+    }
+
+    private int differencesLocked(List<EventView> expected, Instant now) {
+        Map<Long, EventView> actual = new HashMap<>();
+        Key from = Key.from(now.toEpochMilli());
+        for (ConcurrentNavigableMap<Key, EventView> events : byCategory.values()) {
+            events.tailMap(from).values().forEach(event -> actual.put(event.getId(), event));
+        }
+
+        int differences = 0;
+        for (EventView event : expected) {
+            EventView cached = actual.remove(event.getId());
+            if (cached == null || !sameVersion(cached, event)) {
+                differences++;
+            }
+        }
+        return differences + actual.size();
+    }
+
+    private void evictLocked(Instant now) {
+        Key start = Key.from(now.toEpochMilli());
+        for (ConcurrentNavigableMap<Key, EventView> events : byCategory.values()) {
+            ConcurrentNavigableMap<Key, EventView> started = events.headMap(start);
+            started.keySet().forEach(key -> keysById.remove(key.id, key));
+            started.clear();
+        }
+    }
+
+    private void reloadCategoryLocked(Long categoryId, List<EventView> events) {
+        ConcurrentNavigableMap<Key, EventView> previous = byCategory.remove(categoryId);
+        if (previous != null) {
+            previous.keySet().forEach(key -> keysById.remove(key.id, key));
+        }
+        events.forEach(this::put);
+        staleCategories.remove(categoryId);
+    }
+
+    private void replaceLocked(List<EventView> events, Set<Long> beyond, Instant end) {
+        byCategory = new ConcurrentHashMap<>();
+        keysById = new ConcurrentHashMap<>();
+        staleCategories.clear();
+
+        for (EventView event : events) {
+            put(event);
+        }
+
+        beyondHorizon = concurrentSet(beyond);
+        windowEnd = end;
+    }
+
+    /**
+     * Re-apply the changes that committed while the load was running, since the load may have read
+     * the database before them. Applying a change twice has no further effect.
+     */
+    private void replayLocked() {
+        for (Object change : recorded) {
+            if (change instanceof EventChange eventChange) {
+                applyLocked(eventChange);
+            } else if (change instanceof CategoryChange categoryChange) {
+                staleCategories.add(categoryChange.getCategoryId());
+            } else if (change instanceof EventsImported) {
+                windowEnd = null;
+            }
+        }
+        recorded.clear();
+    }
+
+    private void startRecording() {
+        lock.lock();
+        try {
+            recorded = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void stopRecording() {
+        lock.lock();
+        try {
+            recorded = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(EventView event) {
+        Key key = new Key(event.getStartsAt().getTime(), event.getId(), event.getCategory().getId());
+
+        byCategory.computeIfAbsent(key.categoryId, id -> new ConcurrentSkipListMap<>()).put(key, event.copy());
+        keysById.put(key.id, key);
+    }
+
+    private static boolean sameVersion(EventView cached, EventView event) {
+        return cached.getStartsAt().getTime() == event.getStartsAt().getTime()
+                && Objects.equals(cached.getCategory().getId(), event.getCategory().getId())
+                && Objects.equals(cached.getCategory().getName(), event.getCategory().getName())
+                && Objects.equals(millis(cached.getUpdatedAt()), millis(event.getUpdatedAt()));
+    }
+
+    private static Long millis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : null;
+    }
+
+    private static Set<Long> concurrentSet(Set<Long> ids) {
+        Set<Long> set = ConcurrentHashMap.newKeySet(ids.size());
+        set.addAll(ids);
+        return set;
+    }
+
+    /**
+     * Skip list key in {@code (startsAt, id)} order; the category is carried along to find the entry again.
+     */
+    private record Key(long startsAt, long id, Long categoryId) implements Comparable<Key> {
+
+        static Key from(long startsAt) {
+            return new Key(startsAt, Long.MIN_VALUE, null);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int result = Long.compare(startsAt, other.startsAt);
+            return result != 0 ? result : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventsphere.event.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.config.HypermediaMappingInformation;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary {@code application/cbor} and {@code application/x-jackson-smile} representations of every response,
+ * for internal callers that opt in with an {@code Accept} header.
+ * <p>
+ * The converters are appended after the JSON and XML ones so they are never picked for {@code Accept: *}{@code /*},
+ * and their mappers carry the application's Jackson settings and the HAL module, so the documents have the same
+ * shape as the HAL JSON ones.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    private final ObjectProvider<HypermediaMappingInformation> hypermediaMappings;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                withHal(objectMapperBuilder.getObject().createXmlMapper(false).factory(new CBORFactory()).build())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                withHal(objectMapperBuilder.getObject().createXmlMapper(false).factory(new SmileFactory()).build())));
+    }
+
+    private ObjectMapper withHal(ObjectMapper mapper) {
+        return hypermediaMappings.orderedStream()
+                .filter(mapping -> mapping.getMediaTypes().contains(MediaTypes.HAL_JSON))
+                .findFirst()
+                .map(mapping -> mapping.configureObjectMapper(mapper))
+                .orElse(mapper);
+    }
+}
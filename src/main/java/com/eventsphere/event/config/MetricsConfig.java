@@ -0,0 +1,33 @@
+package com.eventsphere.event.config;
+
+import com.eventsphere.event.metrics.SqlStatementCounter;
+import com.eventsphere.event.metrics.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+/**
+ * Per-endpoint SQL statement counts. Repository timers, Hibernate statistics and Hikari pool metrics
+ * come from Spring Boot's auto-configuration, see {@code application.properties}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter counter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    @Bean
+    public MappedInterceptor sqlStatementMetricsInterceptor(SqlStatementCounter counter, MeterRegistry meterRegistry) {
+        return new MappedInterceptor(null, new SqlStatementMetricsInterceptor(counter, meterRegistry));
+    }
+}
@@ -0,0 +1,59 @@
+package com.eventsphere.event.config;
+
+import com.eventsphere.event.outbox.FileOutboxSink;
+import com.eventsphere.event.outbox.InMemoryOutboxSink;
+import com.eventsphere.event.outbox.OutboxRelay;
+import com.eventsphere.event.outbox.OutboxSink;
+import com.eventsphere.event.outbox.OutboxWriter;
+import com.eventsphere.event.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * Transactional outbox of event changes and its relay. The built-in sinks are meant for tests and local
+ * runs; an {@link OutboxSink} bean of the application's own replaces them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventsphere.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxMessageRepository, objectMapper);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxMessageRepository outboxMessageRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            @Value("${eventsphere.outbox.batch-size:500}") int batchSize,
+            @Value("${eventsphere.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+            MeterRegistry meterRegistry
+    ) {
+        return new OutboxRelay(outboxMessageRepository, outboxSink, new TransactionTemplate(transactionManager),
+                batchSize, maxBatchesPerRun, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(name = "eventsphere.outbox.sink", havingValue = "file")
+    public OutboxSink fileOutboxSink(@Value("${eventsphere.outbox.file}") Path file, ObjectMapper objectMapper) {
+        return new FileOutboxSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink inMemoryOutboxSink(@Value("${eventsphere.outbox.memory-capacity:10000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+}
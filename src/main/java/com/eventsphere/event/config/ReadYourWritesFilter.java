@@ -0,0 +1,71 @@
+package com.eventsphere.event.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes stickiness for replica routing. Every write request sets a short-lived
+ * {@value #COOKIE_NAME} cookie (also accepted as a request header by non-browser clients), and
+ * requests carrying an unexpired one read from the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    public static final String HEADER_NAME = "X-Read-Primary-Until";
+
+    private final Duration stickyWindow;
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean write = !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+        ReplicaRoutingDataSource.forcePrimary(write || primaryUntil(request) > System.currentTimeMillis());
+
+        try {
+            if (write) {
+                long until = System.currentTimeMillis() + stickyWindow.toMillis();
+                Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+                response.addCookie(cookie);
+                response.setHeader(HEADER_NAME, Long.toString(until));
+            }
+
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.forcePrimary(false);
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        String value = request.getHeader(HEADER_NAME);
+
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+
+        try {
+            return value != null ? Long.parseLong(value) : 0;
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.eventsphere.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the read-replica routing, bound from {@code eventsphere.datasource.routing.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("eventsphere.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** Replicas lagging further behind the primary than this are skipped. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** How long a client's reads go to the primary after its own write. */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,63 @@
+package com.eventsphere.event.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in virtual-thread request execution, enabled with {@code eventsphere.threads.virtual.enabled=true}.
+ * <p>
+ * Tomcat requests and MVC async work (e.g. streamed exports) run on virtual threads instead of the bounded
+ * platform thread pools. Since request concurrency is then no longer capped by {@code server.tomcat.threads.max},
+ * JDBC access is limited by a {@link ConcurrencyLimitingDataSource} sized to the connection pool. Only the
+ * application {@value #DATA_SOURCE_BEAN_NAME} bean is limited, not the pools behind it, e.g. the replica routing
+ * data sources, so every connection passes a single semaphore.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventsphere.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiter(
+            @Value("${eventsphere.jdbc.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrency,
+            @Value("${eventsphere.jdbc.acquire-timeout:PT30S}") Duration acquireTimeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
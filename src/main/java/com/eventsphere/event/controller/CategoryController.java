@@ -4,15 +4,21 @@ import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.dto.CategoryDto;
 import com.eventsphere.event.model.dto.CategoryWithEventsDto;
 import com.eventsphere.event.service.CategoryService;
+import com.eventsphere.event.util.ConditionalRequests;
+import com.eventsphere.event.util.LinkTemplate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -25,38 +31,61 @@ public class CategoryController {
     private static final String CREATE_CATEGORY_REL = "create-category";
     private static final String GET_ALL_CATEGORIES_REL = "get-all-categories";
     private static final String SELF_REL = "self";
+    private static final String NEXT_REL = "next";
+    private static final String PREV_REL = "prev";
+    private static final String CATEGORY_ETAG_KIND = "category";
+    private static final String CATEGORIES_ETAG_KIND = "categories";
     private final CategoryService categoryService;
 
     @GetMapping
-    public ResponseEntity<CollectionModel<Category>> getAllCategories() {
-        List<Category> categories = categoryService.getAll();
+    public ResponseEntity<CollectionModel<Category>> getAllCategories(@RequestHeader HttpHeaders headers) {
+        List<Category> categories = categoryService.getAllWithEventCounts();
+
+        // Event counts change without touching the categories, so they are part of the validator and
+        // there is no meaningful Last-Modified time for the listing. Both come from caches, so a
+        // revalidation is answered without a query.
+        String etag = ConditionalRequests.variantEtag(ConditionalRequests.etag(CATEGORIES_ETAG_KIND,
+                categories.stream()
+                        .flatMap(category -> Stream.of(category.getId(), category.getEventCount(),
+                                category.getUpcomingCount()))
+                        .toList(),
+                categories.stream().map(Category::getUpdatedAt).toList()), headers);
+
+        if (ConditionalRequests.isNotModified(headers, etag, null)) {
+            return notModified(etag, null);
+        }
 
+        LinkTemplate categoryLinks = LinkTemplate.of(CategoryController.class);
         for (Category category : categories) {
-            category.add(
-                    linkTo(methodOn(CategoryController.class).getCategory(category.getId())).withRel(GET_CATEGORY_REL)
-            );
+            category.add(categoryLinks.item(category.getId(), GET_CATEGORY_REL));
         }
 
         CollectionModel<Category> categoryCollectionModel = CollectionModel.of(categories);
         categoryCollectionModel.add(
-                linkTo(methodOn(CategoryController.class).getAllCategories()).withRel(SELF_REL),
+                linkTo(methodOn(CategoryController.class).getAllCategories(null)).withRel(SELF_REL),
                 linkTo(methodOn(CategoryController.class).createCategory(new Category())).withRel(CREATE_CATEGORY_REL)
         );
 
-        return ResponseEntity.ok(categoryCollectionModel);
+        return withValidators(ResponseEntity.ok(), etag, null).body(categoryCollectionModel);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategory(@PathVariable Long id) {
+    public ResponseEntity<Category> getCategory(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
         Category category = categoryService.get(id);
 
+        String etag = ConditionalRequests.variantEtag(
+                ConditionalRequests.etag(CATEGORY_ETAG_KIND, id, category.getUpdatedAt()), headers);
+        if (ConditionalRequests.isNotModified(headers, etag, category.getUpdatedAt())) {
+            return notModified(etag, category.getUpdatedAt());
+        }
+
         category.add(
-                linkTo(methodOn(CategoryController.class).getCategory(id)).withRel(SELF_REL),
-                linkTo(methodOn(CategoryController.class).getAllCategories()).withRel(GET_ALL_CATEGORIES_REL),
+                linkTo(methodOn(CategoryController.class).getCategory(id, null)).withRel(SELF_REL),
+                linkTo(methodOn(CategoryController.class).getAllCategories(null)).withRel(GET_ALL_CATEGORIES_REL),
                 linkTo(methodOn(CategoryController.class).createCategory(category)).withRel(CREATE_CATEGORY_REL)
         );
 
-        return ResponseEntity.ok(category);
+        return withValidators(ResponseEntity.ok(), etag, category.getUpdatedAt()).body(category);
     }
 
     @GetMapping("/{id}/events")
@@ -64,17 +93,32 @@ public class CategoryController {
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "false") boolean upcoming
+            @RequestParam(defaultValue = "false") boolean upcoming,
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        Category category = categoryService.getWithEvents(id, page, size, upcoming);
+        CategoryWithEventsDto categoryWithEvents = categoryService.getWithEvents(id, page, size, upcoming, includeTotal);
 
-        category.add(
-                linkTo(methodOn(CategoryController.class).getCategory(id)).withRel(SELF_REL),
-                linkTo(methodOn(CategoryController.class).getAllCategories()).withRel(GET_ALL_CATEGORIES_REL),
-                linkTo(methodOn(CategoryController.class).createCategory(category)).withRel(CREATE_CATEGORY_REL)
+        categoryWithEvents.add(
+                linkTo(methodOn(CategoryController.class).getCategoryEvents(id, page, size, upcoming, includeTotal)).withRel(SELF_REL),
+                linkTo(methodOn(CategoryController.class).getCategory(id, null)).withRel(GET_CATEGORY_REL),
+                linkTo(methodOn(CategoryController.class).getAllCategories(null)).withRel(GET_ALL_CATEGORIES_REL)
         );
 
-        return ResponseEntity.ok(new CategoryWithEventsDto(category));
+        if (categoryWithEvents.isHasNext()) {
+            categoryWithEvents.add(
+                    linkTo(methodOn(CategoryController.class).getCategoryEvents(id, categoryWithEvents.getPage() + 1,
+                            categoryWithEvents.getSize(), upcoming, includeTotal)).withRel(NEXT_REL)
+            );
+        }
+
+        if (categoryWithEvents.getPage() > 0) {
+            categoryWithEvents.add(
+                    linkTo(methodOn(CategoryController.class).getCategoryEvents(id, categoryWithEvents.getPage() - 1,
+                            categoryWithEvents.getSize(), upcoming, includeTotal)).withRel(PREV_REL)
+            );
+        }
+
+        return ResponseEntity.ok(categoryWithEvents);
     }
 
 
@@ -84,8 +128,8 @@ public class CategoryController {
 
         createdCategory.add(
                 linkTo(methodOn(CategoryController.class).createCategory(category)).withRel(SELF_REL),
-                linkTo(methodOn(CategoryController.class).getAllCategories()).withRel(GET_ALL_CATEGORIES_REL),
-                linkTo(methodOn(CategoryController.class).getCategory(createdCategory.getId())).withRel(GET_CATEGORY_REL)
+                linkTo(methodOn(CategoryController.class).getAllCategories(null)).withRel(GET_ALL_CATEGORIES_REL),
+                linkTo(methodOn(CategoryController.class).getCategory(createdCategory.getId(), null)).withRel(GET_CATEGORY_REL)
         );
 
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
@@ -102,7 +146,7 @@ public class CategoryController {
 
         updatedCategory.add(
                 linkTo(methodOn(CategoryController.class).updateCategory(id, categoryDto)).withRel(SELF_REL),
-                linkTo(methodOn(CategoryController.class).getAllCategories()).withRel(GET_ALL_CATEGORIES_REL),
+                linkTo(methodOn(CategoryController.class).getAllCategories(null)).withRel(GET_ALL_CATEGORIES_REL),
                 linkTo(methodOn(CategoryController.class).createCategory(updatedCategory)).withRel(CREATE_CATEGORY_REL)
         );
 
@@ -114,4 +158,21 @@ public class CategoryController {
         categoryService.delete(id);
         return ResponseEntity.ok().build();
     }
+
+    private <T> ResponseEntity<T> notModified(String etag, Timestamp lastModified) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, lastModified).build();
+    }
+
+    /**
+     * Set the validators of a category response. Its JSON, XML, CBOR and Smile documents are negotiated from
+     * {@code Accept}, so the entity tag is specific to the negotiated one and caches must vary on it.
+     */
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response, String etag,
+                                                      Timestamp lastModified) {
+        response.eTag(etag).varyBy(HttpHeaders.ACCEPT);
+        if (lastModified != null) {
+            response.lastModified(lastModified.getTime());
+        }
+        return response;
+    }
 }
@@ -1,18 +1,42 @@
 package com.eventsphere.event.controller;
 
 import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.EventBatchResultDto;
+import com.eventsphere.event.model.dto.EventSearchPage;
 import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.EventImportResultDto;
 import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.service.ChangeFeedService;
+import com.eventsphere.event.service.EventBatchService;
+import com.eventsphere.event.service.EventExportService;
+import com.eventsphere.event.service.EventImportService;
+import com.eventsphere.event.service.EventSearchService;
 import com.eventsphere.event.service.EventService;
+import com.eventsphere.event.util.AsyncTimeoutInterceptor;
+import com.eventsphere.event.util.ConditionalRequests;
+import com.eventsphere.event.util.EventCursor;
+import com.eventsphere.event.util.LinkTemplate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -26,38 +50,124 @@ public class EventController {
     private static final String CREATE_EVENT_REL = "create-event";
     private static final String GET_ALL_EVENTS_REL = "get-all-events";
     private static final String SELF_REL = "self";
+    private static final String NEXT_REL = "next";
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR = "export-timeout";
     private final EventService eventService;
+    private final EventExportService eventExportService;
+    private final EventBatchService eventBatchService;
+    private final EventImportService eventImportService;
+    private final EventSearchService eventSearchService;
+    private final ChangeFeedService changeFeedService;
 
     @GetMapping
-    public ResponseEntity<CollectionModel<Event>> getAllEvents() {
-        List<Event> events = eventService.getAll();
+    public ResponseEntity<CollectionModel<EventView>> getAllEvents(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int limit
+    ) {
+        Slice<EventView> slice = eventService.getPage(after, limit);
+        List<EventView> events = slice.getContent();
+
+        LinkTemplate eventLinks = LinkTemplate.of(EventController.class);
+        for (EventView event : events) {
+            event.add(eventLinks.item(event.getId(), GET_EVENT_REL));
+        }
+
+        CollectionModel<EventView> eventCollectionModel = CollectionModel.of(events);
+        eventCollectionModel.add(
+                linkTo(methodOn(EventController.class).getAllEvents(after, limit)).withRel(SELF_REL),
+                linkTo(methodOn(EventController.class).createEvent(new EventCreateDto())).withRel(CREATE_EVENT_REL)
+        );
 
-        for (Event event : events) {
-            event.add(
-                    linkTo(methodOn(EventController.class).getEvent(event.getId())).withRel(GET_EVENT_REL)
+        if (slice.hasNext() && !events.isEmpty()) {
+            String next = EventCursor.of(events.get(events.size() - 1)).encode();
+            eventCollectionModel.add(
+                    linkTo(methodOn(EventController.class).getAllEvents(next, limit)).withRel(NEXT_REL)
             );
         }
 
-        CollectionModel<Event> eventCollectionModel = CollectionModel.of(events);
+        return ResponseEntity.ok(eventCollectionModel);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CollectionModel<EventView>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int limit
+    ) {
+        EventSearchPage searchPage = eventSearchService.search(q, after, limit);
+        List<EventView> events = searchPage.getEvents();
+
+        LinkTemplate eventLinks = LinkTemplate.of(EventController.class);
+        for (EventView event : events) {
+            event.add(eventLinks.item(event.getId(), GET_EVENT_REL));
+        }
+
+        CollectionModel<EventView> eventCollectionModel = CollectionModel.of(events);
         eventCollectionModel.add(
-                linkTo(methodOn(EventController.class).getAllEvents()).withRel(SELF_REL),
-                linkTo(methodOn(EventController.class).createEvent(new EventCreateDto())).withRel(CREATE_EVENT_REL)
+                linkTo(methodOn(EventController.class).searchEvents(q, after, limit)).withRel(SELF_REL)
         );
 
+        if (searchPage.hasNext()) {
+            eventCollectionModel.add(
+                    linkTo(methodOn(EventController.class).searchEvents(q, searchPage.getNextCursor(), limit))
+                            .withRel(NEXT_REL)
+            );
+        }
+
         return ResponseEntity.ok(eventCollectionModel);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam(defaultValue = "NDJSON") EventExportService.Format format,
+            NativeWebRequest request
+    ) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR,
+                new AsyncTimeoutInterceptor(eventExportService.getTimeout()));
+        StreamingResponseBody body = out -> eventExportService.export(out, format);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
+    /**
+     * Stream committed event and category changes as server-sent events, instead of polling the event list.
+     *
+     * @param category    only stream changes of this category and its events
+     * @param lastEventId the id of the last received change, sent by reconnecting clients to resume
+     * @return the change stream
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getChanges(
+            @RequestParam(required = false) Long category,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return changeFeedService.subscribe(category, lastEventId);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEvent(@PathVariable Long id) {
-        Event event = eventService.get(id);
+    public ResponseEntity<EventView> getEvent(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
+        Optional<EventView> current = eventService.findView(id);
+
+        if (current.isPresent()) {
+            String etag = ConditionalRequests.variantEtag(EventService.etag(current.get()), headers);
+            Timestamp lastModified = current.get().getUpdatedAt();
+
+            if (ConditionalRequests.isNotModified(headers, etag, lastModified)) {
+                return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current.get(), headers).build();
+            }
+        }
+
+        EventView event = eventService.getView(id);
 
         event.add(
-                linkTo(methodOn(EventController.class).getEvent(id)).withRel(SELF_REL),
-                linkTo(methodOn(EventController.class).getAllEvents()).withRel(GET_ALL_EVENTS_REL),
+                linkTo(methodOn(EventController.class).getEvent(id, null)).withRel(SELF_REL),
+                linkTo(methodOn(EventController.class).getAllEvents(null, EventService.DEFAULT_PAGE_SIZE)).withRel(GET_ALL_EVENTS_REL),
                 linkTo(methodOn(EventController.class).createEvent(new EventCreateDto())).withRel(CREATE_EVENT_REL)
         );
 
-        return ResponseEntity.ok(event);
+        return withValidators(ResponseEntity.ok(), event, headers).body(event);
     }
 
     @PostMapping
@@ -66,8 +176,8 @@ public class EventController {
 
         createdEvent.add(
                 linkTo(methodOn(EventController.class).createEvent(event)).withRel(SELF_REL),
-                linkTo(methodOn(EventController.class).getAllEvents()).withRel(GET_ALL_EVENTS_REL),
-                linkTo(methodOn(EventController.class).getEvent(createdEvent.getId())).withRel(GET_EVENT_REL)
+                linkTo(methodOn(EventController.class).getAllEvents(null, EventService.DEFAULT_PAGE_SIZE)).withRel(GET_ALL_EVENTS_REL),
+                linkTo(methodOn(EventController.class).getEvent(createdEvent.getId(), null)).withRel(GET_EVENT_REL)
         );
 
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
@@ -78,17 +188,38 @@ public class EventController {
         return ResponseEntity.created(location).body(createdEvent);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<EventBatchResultDto> createEvents(@RequestBody List<EventCreateDto> events) {
+        return ResponseEntity.ok(eventBatchService.create(events));
+    }
+
+    /**
+     * Bulk-load events from a CSV upload, e.g. a seasonal catalogue, in one transaction.
+     *
+     * @param csv the CSV with a header row, in the column layout of the CSV export
+     * @return the number of imported and rejected rows and the reported rejections
+     */
+    @PostMapping(path = "/import", consumes = EventImportService.CSV_MEDIA_TYPE)
+    public ResponseEntity<EventImportResultDto> importEvents(InputStream csv) {
+        return ResponseEntity.ok(eventImportService.importCsv(csv));
+    }
+
     @PatchMapping("/{id}")
-    public ResponseEntity<Event> updateEvent(@PathVariable Long id, @Valid @RequestBody EventUpdateDto eventUpdateDto) {
-        Event updatedEvent = eventService.update(id, eventUpdateDto);
+    public ResponseEntity<EventView> updateEvent(
+            @PathVariable Long id,
+            @Valid @RequestBody EventUpdateDto eventUpdateDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader HttpHeaders headers
+    ) {
+        EventView updatedEvent = eventService.update(id, eventUpdateDto, ifMatch);
 
         updatedEvent.add(
-                linkTo(methodOn(EventController.class).updateEvent(id, eventUpdateDto)).withRel(SELF_REL),
-                linkTo(methodOn(EventController.class).getAllEvents()).withRel(GET_ALL_EVENTS_REL),
-                linkTo(methodOn(EventController.class).getEvent(updatedEvent.getId())).withRel(GET_EVENT_REL)
+                linkTo(methodOn(EventController.class).updateEvent(id, eventUpdateDto, null, null)).withRel(SELF_REL),
+                linkTo(methodOn(EventController.class).getAllEvents(null, EventService.DEFAULT_PAGE_SIZE)).withRel(GET_ALL_EVENTS_REL),
+                linkTo(methodOn(EventController.class).getEvent(updatedEvent.getId(), null)).withRel(GET_EVENT_REL)
         );
 
-        return ResponseEntity.ok(updatedEvent);
+        return withValidators(ResponseEntity.ok(), updatedEvent, headers).body(updatedEvent);
     }
 
     @DeleteMapping("/{id}")
@@ -96,6 +227,18 @@ public class EventController {
         eventService.delete(id);
         return ResponseEntity.ok().build();
     }
-}
-
 
+    /**
+     * Set the validators of an event response. JSON, XML, CBOR and Smile documents of the event are negotiated
+     * from {@code Accept}, so the entity tag is specific to the negotiated one and caches must vary on it.
+     */
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response, EventView event,
+                                                      HttpHeaders requestHeaders) {
+        response.eTag(ConditionalRequests.variantEtag(EventService.etag(event), requestHeaders))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (event.getUpdatedAt() != null) {
+            response.lastModified(event.getUpdatedAt().getTime());
+        }
+        return response;
+    }
+}
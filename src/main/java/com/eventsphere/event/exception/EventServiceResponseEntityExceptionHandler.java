@@ -2,6 +2,7 @@ package com.eventsphere.event.exception;
 
 import com.eventsphere.event.util.ErrorUtils;
 import lombok.NonNull;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -65,6 +66,37 @@ public class EventServiceResponseEntityExceptionHandler extends ResponseEntityEx
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles OptimisticLockingFailureException, raised when a concurrent update won the race,
+     * and returns an error response with a conflict status.
+     *
+     * @param ex      the exception to handle.
+     * @param request the current request.
+     * @return a ResponseEntity containing the error details and status.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public final ResponseEntity<ErrorDetails> handleOptimisticLockingFailure(Exception ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(),
+                "The resource was modified concurrently, reload it and retry", request.getDescription(false));
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles PreconditionFailedException and returns an error response with a precondition failed status.
+     *
+     * @param ex      the exception to handle.
+     * @param request the current request.
+     * @return a ResponseEntity containing the error details and status.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public final ResponseEntity<ErrorDetails> handlePreconditionFailedException(Exception ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(),
+                ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.PRECONDITION_FAILED);
+    }
+
     /**
      * Handles EventNotValidException and CategoryNotValidException and returns an error response with a bad request status.
      *
@@ -0,0 +1,18 @@
+package com.eventsphere.event.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new instance of {@code PreconditionFailedException} with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
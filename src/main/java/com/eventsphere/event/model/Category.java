@@ -1,6 +1,9 @@
 package com.eventsphere.event.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Null;
 import jakarta.validation.constraints.Size;
@@ -23,6 +26,7 @@ import java.util.Set;
 @Setter
 @ToString
 @RequiredArgsConstructor
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Category extends RepresentationModel<Category> {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,6 +57,16 @@ public class Category extends RepresentationModel<Category> {
     @ToString.Exclude
     private Set<Event> events = new HashSet<>();
 
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long eventCount;
+
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long upcomingCount;
+
     public Category(Long id, String name) {
         this.id = id;
         this.name = name;
@@ -0,0 +1,30 @@
+package com.eventsphere.event.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Application event published by {@code CategoryService} for every created, updated or deleted category.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryChange {
+
+    private final ChangeType type;
+    private final Long categoryId;
+
+    public static CategoryChange created(Long categoryId) {
+        return new CategoryChange(ChangeType.CREATED, categoryId);
+    }
+
+    public static CategoryChange updated(Long categoryId) {
+        return new CategoryChange(ChangeType.UPDATED, categoryId);
+    }
+
+    public static CategoryChange deleted(Long categoryId) {
+        return new CategoryChange(ChangeType.DELETED, categoryId);
+    }
+}
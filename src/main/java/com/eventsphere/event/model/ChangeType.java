@@ -0,0 +1,10 @@
+package com.eventsphere.event.model;
+
+/**
+ * Kind of a mutation published as an {@link EventChange} or {@link CategoryChange}.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -1,5 +1,6 @@
 package com.eventsphere.event.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
@@ -8,15 +9,20 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetTime;
+import java.time.ZoneId;
 import java.util.Objects;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @ToString
@@ -24,7 +30,8 @@ import java.util.Objects;
 @AllArgsConstructor
 @RequiredArgsConstructor
 public class Event extends RepresentationModel<Event> {
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_id_seq")
+    @SequenceGenerator(name = "event_id_seq", sequenceName = "event_id_seq", allocationSize = 50)
     @Id
     @Column(name = "id")
     private Long id;
@@ -63,6 +70,10 @@ public class Event extends RepresentationModel<Event> {
     @NotNull(message = "Provide time for event")
     private Time time;
 
+    @Basic
+    @Column(name = "starts_at")
+    private Timestamp startsAt;
+
     @Basic
     @Column(name = "created_at")
     @CreationTimestamp
@@ -75,11 +86,49 @@ public class Event extends RepresentationModel<Event> {
     @Null(message = "Cannot manually set updated at date")
     private Timestamp updatedAt;
 
-    @ManyToOne
+    @Version
+    @Column(name = "version")
+    @JsonIgnore
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", referencedColumnName = "id")
     @NotNull
+    @ToString.Exclude
     private Category category;
 
+    @PrePersist
+    @PreUpdate
+    void syncStartsAt() {
+        startsAt = startsAt(date, time);
+    }
+
+    /**
+     * Get the start of an event: its date at its time with the UTC offset stored in the {@code timetz} column,
+     * like {@code date + time} in SQL. The PostgreSQL driver reads a {@code timetz} into the instant of that
+     * time on 1970-01-01 and writes a {@code Time} with the JVM default time zone's offset at that instant, so
+     * this is the rule of every writer of {@code starts_at}, including the CSV import and the migrations.
+     *
+     * @param date the date
+     * @param time the time
+     * @return the start, or {@code null} if the date or the time is missing
+     */
+    public static Timestamp startsAt(Date date, Time time) {
+        return date != null && time != null
+                ? Timestamp.from(date.toLocalDate().atTime(offsetTime(time)).toInstant())
+                : null;
+    }
+
+    /**
+     * Get a time with the UTC offset the PostgreSQL driver stores it with in a {@code timetz} column.
+     *
+     * @param time the time
+     * @return the time at the JVM default time zone's offset on 1970-01-01
+     */
+    public static OffsetTime offsetTime(Time time) {
+        return OffsetTime.ofInstant(Instant.ofEpochMilli(time.getTime()), ZoneId.systemDefault());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,51 @@
+package com.eventsphere.event.model;
+
+import com.eventsphere.event.model.dto.EventView;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Application event published by the event services for every created, updated or deleted event.
+ * Listeners that must only see committed data use {@code @TransactionalEventListener}.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventChange {
+
+    private final ChangeType type;
+    private final Long eventId;
+
+    /** The event after the change, or before it for a deletion. */
+    private final EventView event;
+
+    /** The changed fields, all of them for a creation and none for a deletion. */
+    private final Set<EventField> fields;
+
+    /** The category of the event before an update, {@code null} for a creation or a deletion. */
+    private final Long previousCategoryId;
+
+    public Set<EventField> getFields() {
+        return Collections.unmodifiableSet(fields);
+    }
+
+    public static EventChange created(EventView event) {
+        return new EventChange(ChangeType.CREATED, event.getId(), event, EnumSet.allOf(EventField.class), null);
+    }
+
+    public static EventChange updated(EventView event, Set<EventField> fields, Long previousCategoryId) {
+        EnumSet<EventField> changed = EnumSet.noneOf(EventField.class);
+        changed.addAll(fields);
+        return new EventChange(ChangeType.UPDATED, event.getId(), event, changed, previousCategoryId);
+    }
+
+    public static EventChange deleted(EventView event) {
+        return new EventChange(ChangeType.DELETED, event.getId(), event, EnumSet.noneOf(EventField.class), null);
+    }
+}
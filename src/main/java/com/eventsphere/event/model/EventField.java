@@ -0,0 +1,14 @@
+package com.eventsphere.event.model;
+
+/**
+ * Updatable fields of an {@link Event}, used as a change mask for partial updates.
+ */
+public enum EventField {
+    TITLE,
+    DESCRIPTION,
+    IMAGE_URL,
+    LOCATION,
+    DATE,
+    TIME,
+    CATEGORY
+}
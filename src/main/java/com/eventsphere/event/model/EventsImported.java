@@ -0,0 +1,17 @@
+package com.eventsphere.event.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Application event published by {@code EventImportService} for a committed CSV import, whose events are
+ * not published one by one as {@link EventChange}s.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class EventsImported {
+
+    private final long count;
+}
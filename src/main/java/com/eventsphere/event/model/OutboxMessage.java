@@ -0,0 +1,58 @@
+package com.eventsphere.event.model;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * Event change waiting in the {@code event_outbox} table to be relayed to other services.
+ */
+@Entity
+@Table(name = "event_outbox")
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxMessage {
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_outbox_id_seq")
+    @SequenceGenerator(name = "event_outbox_id_seq", sequenceName = "event_outbox_id_seq", allocationSize = 50)
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    /**
+     * Version of the event after the change, or before it for a deletion. Messages are only ordered per
+     * event, by this version: ids are allocated in blocks per instance, and neither they nor the creation
+     * times follow the commit order across transactions.
+     */
+    @Column(name = "event_version")
+    private Long eventVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    /** Comma-separated {@link EventField} names. */
+    @Column(name = "changed_fields")
+    private String changedFields;
+
+    /** JSON of the event after the change, or before it for a deletion. */
+    @JsonRawValue
+    @Column(name = "payload")
+    private String payload;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Timestamp createdAt;
+}
@@ -1,15 +1,17 @@
 package com.eventsphere.event.model.dto;
 
 import com.eventsphere.event.model.Category;
-import com.eventsphere.event.model.Event;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.sql.Timestamp;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
@@ -20,13 +22,23 @@ public class CategoryWithEventsDto extends RepresentationModel<CategoryWithEvent
     private String name;
     private Timestamp createdAt;
     private Timestamp updatedAt;
-    private Set<Event> events;
+    private List<EventView> events;
+    private int page;
+    private int size;
+    private boolean hasNext;
 
-    public CategoryWithEventsDto(Category category) {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalEvents;
+
+    public CategoryWithEventsDto(Category category, Slice<EventView> events, Long totalEvents) {
         this.id = category.getId();
         this.name = category.getName();
         this.createdAt = category.getCreatedAt();
         this.updatedAt = category.getUpdatedAt();
-        this.events = category.getEvents();
+        this.events = new ArrayList<>(events.getContent());
+        this.page = events.getNumber();
+        this.size = events.getSize();
+        this.hasNext = events.hasNext();
+        this.totalEvents = totalEvents;
     }
 }
@@ -0,0 +1,44 @@
+package com.eventsphere.event.model.dto;
+
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.EventField;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Payload of one message of the {@code /v1/events/changes} feed. The {@code id} is also the SSE event id,
+ * so it is what a client sends back as {@code Last-Event-ID} to resume.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeNotificationDto {
+
+    public enum Entity {
+        EVENT,
+        CATEGORY
+    }
+
+    private final long id;
+    private final Entity entity;
+    private final ChangeType type;
+    private final Long entityId;
+    private final Long categoryId;
+
+    /** The category an updated event moved out of, {@code null} if it kept its category. */
+    private final Long previousCategoryId;
+
+    /** The changed event fields, {@code null} for categories. */
+    private final Set<EventField> fields;
+
+    /** The number of events of a bulk change, e.g. a CSV import, which has no {@code entityId}. */
+    private final Long count;
+
+    private final Instant occurredAt;
+}
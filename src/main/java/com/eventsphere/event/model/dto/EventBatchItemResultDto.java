@@ -0,0 +1,33 @@
+package com.eventsphere.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a single item of a batch event creation.
+ */
+@Getter
+@AllArgsConstructor
+public class EventBatchItemResultDto {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    private final int index;
+    private final Status status;
+    private final Long id;
+    private final Map<String, List<String>> errors;
+
+    public static EventBatchItemResultDto created(int index, Long id) {
+        return new EventBatchItemResultDto(index, Status.CREATED, id, null);
+    }
+
+    public static EventBatchItemResultDto rejected(int index, Map<String, List<String>> errors) {
+        return new EventBatchItemResultDto(index, Status.REJECTED, null, errors);
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventsphere.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Summary of a batch event creation with per-item results in request order.
+ */
+@Getter
+@AllArgsConstructor
+public class EventBatchResultDto {
+    private final int created;
+    private final int rejected;
+    private final List<EventBatchItemResultDto> items;
+}
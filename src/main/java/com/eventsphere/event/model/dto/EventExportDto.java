@@ -0,0 +1,27 @@
+package com.eventsphere.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Flat, unmanaged view of an event used by the catalogue export.
+ */
+@Getter
+@AllArgsConstructor
+public class EventExportDto {
+    private Long id;
+    private Long creatorId;
+    private String title;
+    private String description;
+    private String imageUrl;
+    private String location;
+    private Date date;
+    private Time time;
+    private Timestamp createdAt;
+    private Timestamp updatedAt;
+    private String category;
+}
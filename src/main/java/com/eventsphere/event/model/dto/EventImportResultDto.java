@@ -0,0 +1,18 @@
+package com.eventsphere.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Summary of a CSV event import. Rejected rows are reported by their record number, counting data rows from 1,
+ * up to the configured report limit; {@code rejected} always counts all of them.
+ */
+@Getter
+@AllArgsConstructor
+public class EventImportResultDto {
+    private final long imported;
+    private final long rejected;
+    private final List<EventBatchItemResultDto> rejections;
+}
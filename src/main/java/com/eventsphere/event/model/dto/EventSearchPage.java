@@ -0,0 +1,20 @@
+package com.eventsphere.event.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results and the cursor of the following page, if any.
+ */
+@Getter
+@AllArgsConstructor
+public class EventSearchPage {
+    private final List<EventView> events;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.eventsphere.event.model.dto;
+
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Read-only, unmanaged view of an event returned by the list and detail GETs. It is built by a JPQL
+ * constructor expression, so it is never tracked by the persistence context, and serializes like
+ * {@link Event}, including its HAL relation names.
+ */
+@Getter
+@ToString
+@Relation(itemRelation = "event", collectionRelation = "eventList")
+public class EventView extends RepresentationModel<EventView> {
+    private final Long id;
+    private final Long creatorId;
+    private final String title;
+    private final String description;
+    private final String imageUrl;
+    private final String location;
+    private final Date date;
+    private final Time time;
+    private final Timestamp startsAt;
+    private final Timestamp createdAt;
+    private final Timestamp updatedAt;
+    @JsonIgnore
+    private final Long version;
+    private final CategoryView category;
+
+    public EventView(Long id, Long creatorId, String title, String description, String imageUrl, String location,
+                     Date date, Time time, Timestamp startsAt, Timestamp createdAt, Timestamp updatedAt, Long version,
+                     Long categoryId, String categoryName, Timestamp categoryCreatedAt, Timestamp categoryUpdatedAt) {
+        this.id = id;
+        this.creatorId = creatorId;
+        this.title = title;
+        this.description = description;
+        this.imageUrl = imageUrl;
+        this.location = location;
+        this.date = date;
+        this.time = time;
+        this.startsAt = startsAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.category = categoryId != null
+                ? new CategoryView(categoryId, categoryName, categoryCreatedAt, categoryUpdatedAt)
+                : null;
+    }
+
+    /**
+     * Create a view of an already loaded event.
+     *
+     * @param event the event
+     * @return the view
+     */
+    public static EventView of(Event event) {
+        return of(event, event.getCategory());
+    }
+
+    /**
+     * Create a view of an event with the given category data, e.g. from the category cache, so that
+     * an uninitialized category reference of the event is not loaded.
+     *
+     * @param event    the event
+     * @param category the category of the event
+     * @return the view
+     */
+    public static EventView of(Event event, Category category) {
+        return new EventView(event.getId(), event.getCreatorId(), event.getTitle(), event.getDescription(),
+                event.getImageUrl(), event.getLocation(), event.getDate(), event.getTime(), event.getStartsAt(),
+                event.getCreatedAt(), event.getUpdatedAt(), event.getVersion(),
+                category != null ? category.getId() : null,
+                category != null ? category.getName() : null,
+                category != null ? category.getCreatedAt() : null,
+                category != null ? category.getUpdatedAt() : null);
+    }
+
+    /**
+     * Create a copy of this view without its links, for views that are kept and handed out repeatedly.
+     *
+     * @return the copy
+     */
+    public EventView copy() {
+        return new EventView(id, creatorId, title, description, imageUrl, location, date, time, startsAt,
+                createdAt, updatedAt, version,
+                category != null ? category.getId() : null,
+                category != null ? category.getName() : null,
+                category != null ? category.getCreatedAt() : null,
+                category != null ? category.getUpdatedAt() : null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventView eventView = (EventView) o;
+        return id != null && Objects.equals(id, eventView.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    /**
+     * Category summary embedded in an {@link EventView}.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class CategoryView {
+        private final Long id;
+        private final String name;
+        private final Timestamp createdAt;
+        private final Timestamp updatedAt;
+    }
+}
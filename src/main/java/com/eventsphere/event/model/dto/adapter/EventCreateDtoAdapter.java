@@ -14,8 +14,10 @@ public class EventCreateDtoAdapter {
     private final CategoryService categoryService;
 
     public Event fromDto(EventCreateDto dto) {
-        Category category = categoryService.get(dto.getCategory());
+        return fromDto(dto, categoryService.get(dto.getCategory()));
+    }
 
+    public Event fromDto(EventCreateDto dto, Category category) {
         return Event.builder()
                 .creatorId(dto.getCreatorId())
                 .title(dto.getTitle())
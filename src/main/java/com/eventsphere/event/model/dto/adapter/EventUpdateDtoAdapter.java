@@ -2,30 +2,70 @@ package com.eventsphere.event.model.dto.adapter;
 
 import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventField;
 import com.eventsphere.event.model.dto.EventUpdateDto;
 import com.eventsphere.event.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class EventUpdateDtoAdapter {
 
     private final CategoryService categoryService;
 
-    public Event updateEventFromDto(Event event, EventUpdateDto dto) {
-        Category category = categoryService.get(dto.getCategory());
-
-        return Event.builder()
-                .id(event.getId())
-                .creatorId(event.getCreatorId())
-                .title(dto.getTitle() != null ? dto.getTitle() : event.getTitle())
-                .description(dto.getDescription() != null ? dto.getDescription() : event.getDescription())
-                .imageUrl(dto.getImageUrl() != null ? dto.getImageUrl() : event.getImageUrl())
-                .location(dto.getLocation() != null ? dto.getLocation() : event.getLocation())
-                .date(dto.getDate() != null ? dto.getDate() : event.getDate())
-                .time(dto.getTime() != null ? dto.getTime() : event.getTime())
-                .category(category)
-                .build();
+    /**
+     * Apply a patch to a managed event in place and report which fields actually changed.
+     * <p>
+     * Fields that are absent from the patch or equal to the current value are left untouched, so
+     * they are neither marked dirty nor written. The category is only looked up when the patch
+     * names one, through the category cache, and a changed category is set as a lazy reference.
+     *
+     * @param event the managed event, whose category may be an uninitialized proxy
+     * @param dto   the patch
+     * @return the change mask, empty if the patch changes nothing
+     */
+    public Set<EventField> updateEventFromDto(Event event, EventUpdateDto dto) {
+        Set<EventField> changes = EnumSet.noneOf(EventField.class);
+
+        if (dto.getTitle() != null && !dto.getTitle().equals(event.getTitle())) {
+            event.setTitle(dto.getTitle());
+            changes.add(EventField.TITLE);
+        }
+        if (dto.getDescription() != null && !dto.getDescription().equals(event.getDescription())) {
+            event.setDescription(dto.getDescription());
+            changes.add(EventField.DESCRIPTION);
+        }
+        if (dto.getImageUrl() != null && !dto.getImageUrl().equals(event.getImageUrl())) {
+            event.setImageUrl(dto.getImageUrl());
+            changes.add(EventField.IMAGE_URL);
+        }
+        if (dto.getLocation() != null && !dto.getLocation().equals(event.getLocation())) {
+            event.setLocation(dto.getLocation());
+            changes.add(EventField.LOCATION);
+        }
+        if (dto.getDate() != null && !dto.getDate().equals(event.getDate())) {
+            event.setDate(dto.getDate());
+            changes.add(EventField.DATE);
+        }
+        if (dto.getTime() != null && !dto.getTime().equals(event.getTime())) {
+            event.setTime(dto.getTime());
+            changes.add(EventField.TIME);
+        }
+        if (dto.getCategory() != null) {
+            Category category = categoryService.get(dto.getCategory());
+            Long currentCategoryId = event.getCategory() != null ? event.getCategory().getId() : null;
+
+            if (!Objects.equals(category.getId(), currentCategoryId)) {
+                event.setCategory(categoryService.getReference(category.getId()));
+                changes.add(EventField.CATEGORY);
+            }
+        }
+
+        return changes;
     }
 }
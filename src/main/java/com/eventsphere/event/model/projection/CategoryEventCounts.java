@@ -0,0 +1,12 @@
+package com.eventsphere.event.model.projection;
+
+/**
+ * Number of events, and of upcoming events, in one category.
+ */
+public interface CategoryEventCounts {
+    Long getCategoryId();
+
+    Long getEventCount();
+
+    Long getUpcomingCount();
+}
@@ -0,0 +1,10 @@
+package com.eventsphere.event.model.projection;
+
+/**
+ * Id and full-text rank of an event matching a search query.
+ */
+public interface EventSearchHit {
+    Long getId();
+
+    Float getRank();
+}
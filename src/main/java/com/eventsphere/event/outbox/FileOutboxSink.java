@@ -0,0 +1,37 @@
+package com.eventsphere.event.outbox;
+
+import com.eventsphere.event.model.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends every delivered message as one JSON line to a local file, for tests and local runs.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) throws IOException {
+        List<String> lines = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            lines.add(objectMapper.writeValueAsString(message));
+        }
+
+        Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
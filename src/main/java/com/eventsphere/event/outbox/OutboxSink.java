@@ -0,0 +1,21 @@
+package com.eventsphere.event.outbox;
+
+import com.eventsphere.event.model.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox messages, e.g. a message broker. Declaring an {@code OutboxSink} bean
+ * replaces the built-in in-memory and file sinks.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch of messages. The batch stays in the outbox and is retried if this throws,
+     * so delivery is at least once and sinks should tolerate duplicates.
+     *
+     * @param messages the messages in creation order; the messages of one event are ordered by {@code eventVersion}
+     * @throws Exception if the batch could not be delivered
+     */
+    void deliver(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,51 @@
+package com.eventsphere.event.outbox;
+
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.OutboxMessage;
+import com.eventsphere.event.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.stream.Collectors;
+
+/**
+ * Records every {@link EventChange} in the outbox right before the transaction that made the change
+ * commits, so the change and its outbox message are committed, or rolled back, together. A change
+ * published outside a transaction has already been committed without its message, so it fails loudly
+ * instead of being written on its own.
+ */
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Event change " + change + " was published outside a transaction, "
+                    + "so it cannot be recorded in the outbox");
+        }
+
+        Long categoryId = change.getEvent().getCategory() != null ? change.getEvent().getCategory().getId() : null;
+
+        try {
+            outboxMessageRepository.save(OutboxMessage.builder()
+                    .eventId(change.getEventId())
+                    .categoryId(categoryId)
+                    .eventVersion(change.getEvent().getVersion())
+                    .changeType(change.getType())
+                    .changedFields(change.getFields().stream().map(Enum::name).collect(Collectors.joining(",")))
+                    .payload(objectMapper.writeValueAsString(change.getEvent()))
+                    .build());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
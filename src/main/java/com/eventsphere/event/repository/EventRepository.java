@@ -2,16 +2,84 @@ package com.eventsphere.event.repository;
 
 import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.Event;
-import org.springframework.data.domain.Page;
+import com.eventsphere.event.model.dto.EventExportDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.CategoryEventCounts;
+import com.eventsphere.event.model.projection.EventSearchHit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    /**
+     * Select clause of the read-only {@link EventView} queries, joining the category in the same statement.
+     */
+    String VIEW_SELECT = "SELECT new com.eventsphere.event.model.dto.EventView(" +
+            "e.id, e.creatorId, e.title, e.description, e.imageUrl, e.location, e.date, e.time, e.startsAt, " +
+            "e.createdAt, e.updatedAt, e.version, c.id, c.name, c.createdAt, c.updatedAt) " +
+            "FROM Event e LEFT JOIN e.category c ";
+
+    /**
+     * Condition of the events that have a {@code (date, time, id)} keyset position; the columns are nullable.
+     */
+    String KEYSET_DEFINED = "e.date IS NOT NULL AND e.time IS NOT NULL ";
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<Event> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<Event> findAllById(Iterable<Long> ids);
+
+    /**
+     * Get an event for update, leaving its category an uninitialized lazy reference.
+     *
+     * @param id the event id
+     * @return the event, or empty if it does not exist
+     */
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Get an unmanaged view of an event. Called without a surrounding transaction by the event view cache,
+     * so it opens a read-only one of its own, which read-replica routing can serve.
+     *
+     * @param id the event id
+     * @return the view, or empty if the event does not exist
+     */
+    @Transactional(readOnly = true)
+    @Query(VIEW_SELECT + "WHERE e.id = :id")
+    Optional<EventView> findViewById(@Param("id") Long id);
+
+    /**
+     * Get unmanaged views of the given events, in no particular order.
+     *
+     * @param ids the event ids
+     * @return the views of the events that exist
+     */
+    @Query(VIEW_SELECT + "WHERE e.id IN :ids")
+    List<EventView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Check if an event with the given title exists.
      *
@@ -20,8 +88,148 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     boolean existsByTitle(String title);
 
-    Page<Event> findByCategory(Category category, Pageable pageable);
+    /**
+     * Get the first page of events in {@code (date, time, id)} order. Events without a date or time, which
+     * only writes bypassing the validation can leave, have no keyset position and are not listed.
+     *
+     * @param pageable the page size, the page number is ignored by callers
+     * @return a slice of event views without a count query
+     */
+    @Query(VIEW_SELECT + "WHERE " + KEYSET_DEFINED + "ORDER BY e.date ASC, e.time ASC, e.id ASC")
+    Slice<EventView> findFirstPage(Pageable pageable);
+
+    /**
+     * Get the events strictly after the given keyset position in {@code (date, time, id)} order, skipping
+     * events without a date or time like {@link #findFirstPage(Pageable)}. The position is a row-value
+     * comparison, which PostgreSQL turns into the start of a range scan on {@code idx_event_date_time_id}, so a
+     * deep page costs as much as the first one.
+     *
+     * @param date     the date of the last seen event
+     * @param time     the time of the last seen event
+     * @param id       the id of the last seen event
+     * @param pageable the page size, the page number is ignored by callers
+     * @return a slice of event views without a count query
+     */
+    @Query(VIEW_SELECT +
+            "WHERE " + KEYSET_DEFINED + "AND (e.date, e.time, e.id) > (:date, :time, :id) " +
+            "ORDER BY e.date ASC, e.time ASC, e.id ASC")
+    Slice<EventView> findPageAfter(@Param("date") Date date,
+                                   @Param("time") Time time,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    /**
+     * Stream every event as an unmanaged projection, fetching rows from a server-side cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return a stream of export rows ordered by id
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.eventsphere.event.model.dto.EventExportDto(" +
+            "e.id, e.creatorId, e.title, e.description, e.imageUrl, e.location, " +
+            "e.date, e.time, e.createdAt, e.updatedAt, c.name) " +
+            "FROM Event e LEFT JOIN e.category c ORDER BY e.id ASC")
+    Stream<EventExportDto> streamAllForExport();
+
+    /**
+     * Get the best-ranked events matching a web-search style query.
+     *
+     * @param query the search query
+     * @param limit the maximum number of hits
+     * @return hits ordered by rank, then id
+     */
+    @Query(value = "SELECT e.id AS id, ts_rank(e.search_vector, q) AS rank " +
+            "FROM \"event\" e, websearch_to_tsquery('english', :query) q " +
+            "WHERE e.search_vector @@ q " +
+            "ORDER BY rank DESC, e.id ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<EventSearchHit> search(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Get the events matching a web-search style query ranked strictly after the given keyset position.
+     *
+     * @param query the search query
+     * @param rank  the rank of the last seen hit
+     * @param id    the id of the last seen hit
+     * @param limit the maximum number of hits
+     * @return hits ordered by rank, then id
+     */
+    @Query(value = "SELECT hits.id AS id, hits.rank AS rank FROM (" +
+            "SELECT e.id AS id, ts_rank(e.search_vector, q) AS rank " +
+            "FROM \"event\" e, websearch_to_tsquery('english', :query) q " +
+            "WHERE e.search_vector @@ q) hits " +
+            "WHERE hits.rank < CAST(:rank AS real) OR (hits.rank = CAST(:rank AS real) AND hits.id > :id) " +
+            "ORDER BY hits.rank DESC, hits.id ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<EventSearchHit> searchAfter(@Param("query") String query,
+                                     @Param("rank") Float rank,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
+
+    /**
+     * Get a slice of the events of a category in start order, without a count query.
+     *
+     * @param category the category
+     * @param pageable the page to fetch
+     * @return a slice of event views
+     */
+    @Query(VIEW_SELECT + "WHERE e.category = :category ORDER BY e.startsAt ASC, e.id ASC")
+    Slice<EventView> findByCategory(@Param("category") Category category, Pageable pageable);
+
+    /**
+     * Get a slice of the upcoming events of a category in start order, without a count query.
+     *
+     * @param category the category
+     * @param pageable the page to fetch
+     * @return a slice of event views
+     */
+    @Query(VIEW_SELECT + "WHERE e.category = :category AND e.startsAt >= CURRENT_TIMESTAMP " +
+            "ORDER BY e.startsAt ASC, e.id ASC")
+    Slice<EventView> findUpcomingEventsByCategory(@Param("category") Category category, Pageable pageable);
+
+    /**
+     * Get the categorized events starting in {@code [from, to)}, in start order.
+     *
+     * @param from the inclusive lower bound of the start
+     * @param to   the exclusive upper bound of the start
+     * @return the event views
+     */
+    @Query(VIEW_SELECT + "WHERE c.id IS NOT NULL AND e.startsAt >= :from AND e.startsAt < :to " +
+            "ORDER BY e.startsAt ASC, e.id ASC")
+    List<EventView> findViewsStartingBetween(@Param("from") Timestamp from, @Param("to") Timestamp to);
+
+    /**
+     * Get the events of a category starting in {@code [from, to)}, in start order.
+     *
+     * @param categoryId the category id
+     * @param from       the inclusive lower bound of the start
+     * @param to         the exclusive upper bound of the start
+     * @return the event views
+     */
+    @Query(VIEW_SELECT + "WHERE c.id = :categoryId AND e.startsAt >= :from AND e.startsAt < :to " +
+            "ORDER BY e.startsAt ASC, e.id ASC")
+    List<EventView> findViewsByCategoryStartingBetween(@Param("categoryId") Long categoryId,
+                                                       @Param("from") Timestamp from, @Param("to") Timestamp to);
+
+    /**
+     * Get the ids of the categories that have events starting at or after {@code from}.
+     *
+     * @param from the inclusive lower bound of the start
+     * @return the category ids
+     */
+    @Query("SELECT DISTINCT e.category.id FROM Event e WHERE e.category IS NOT NULL AND e.startsAt >= :from")
+    Set<Long> findCategoryIdsStartingFrom(@Param("from") Timestamp from);
+
+    long countByCategory(Category category);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.category = :category AND e.startsAt >= CURRENT_TIMESTAMP")
+    long countUpcomingByCategory(@Param("category") Category category);
 
-    @Query("SELECT e FROM Event e WHERE e.category = :category AND e.date >= CURRENT_TIMESTAMP ORDER BY e.date ASC")
-    Page<Event> findUpcomingEventsByCategory(@Param("category") Category category, Pageable pageable);
+    @Query("SELECT e.category.id AS categoryId, COUNT(e) AS eventCount, " +
+            "SUM(CASE WHEN e.startsAt >= CURRENT_TIMESTAMP THEN 1 ELSE 0 END) AS upcomingCount " +
+            "FROM Event e WHERE e.category IS NOT NULL GROUP BY e.category.id")
+    List<CategoryEventCounts> countEventsGroupedByCategory();
 }
@@ -0,0 +1,33 @@
+package com.eventsphere.event.repository;
+
+import com.eventsphere.event.model.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Lock the oldest undelivered messages for the current transaction, skipping the ones locked by
+     * other relays, so that several instances can relay concurrently without delivering twice.
+     *
+     * @param limit the maximum number of messages
+     * @return the claimed messages in creation order, which is only approximately the commit order
+     */
+    @Query(value = "SELECT * FROM event_outbox ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxMessage> claimBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    Optional<OutboxMessage> findFirstByOrderByCreatedAtAscIdAsc();
+}
@@ -1,21 +1,29 @@
 package com.eventsphere.event.service;
 
+import com.eventsphere.event.cache.CategoryCache;
+import com.eventsphere.event.cache.EventCountCache;
+import com.eventsphere.event.cache.UpcomingEventWindow;
 import com.eventsphere.event.exception.AlreadyExistsException;
 import com.eventsphere.event.exception.CategoryNotFoundException;
 import com.eventsphere.event.exception.CategoryNotValidException;
 import com.eventsphere.event.model.Category;
-import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.CategoryChange;
 import com.eventsphere.event.model.dto.CategoryDto;
+import com.eventsphere.event.model.dto.CategoryWithEventsDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.CategoryEventCounts;
 import com.eventsphere.event.repository.CategoryRepository;
 import com.eventsphere.event.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,29 +33,91 @@ public class CategoryService {
 
     private final EventRepository eventRepository;
 
-    public List<Category> getAll() {
-        return categoryRepository.findAll();
-    }
+    private final CategoryCache categoryCache;
 
-    public Category get(Long id) {
-        return categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id));
+    private final EventCountCache eventCountCache;
+
+    private final UpcomingEventWindow upcomingEventWindow;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<Category> getAll() {
+        return categoryCache.getAll(categoryRepository::findAll);
     }
 
-    public Category getWithEvents(Long id, int page, int size, boolean upcoming) {
-        Category category = categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id));
-        Pageable pageable = PageRequest.of(page, size);
+    /**
+     * Get all categories with their event and upcoming event counts. The counts come from one grouped
+     * aggregate query, cached in the {@link EventCountCache} until a committed change invalidates them;
+     * this runs outside a transaction, so a cache hit uses no connection.
+     *
+     * @return the categories, with {@code eventCount} and {@code upcomingCount} set
+     */
+    public List<Category> getAllWithEventCounts() {
+        List<Category> categories = getAll();
+        Map<Long, CategoryEventCounts> counts = eventCountCache.countAll(eventRepository::countEventsGroupedByCategory);
+
+        for (Category category : categories) {
+            CategoryEventCounts categoryCounts = counts.get(category.getId());
+            category.setEventCount(categoryCounts != null ? categoryCounts.getEventCount() : 0L);
+            category.setUpcomingCount(categoryCounts != null ? categoryCounts.getUpcomingCount() : 0L);
+        }
 
-        Page<Event> eventsPage = upcoming ? eventRepository.findUpcomingEventsByCategory(category, pageable) :
-                eventRepository.findByCategory(category, pageable);
+        return categories;
+    }
 
-        category.setEvents(new HashSet<>(eventsPage.getContent()));
+    /**
+     * Get a category through the {@link CategoryCache}. This runs outside a transaction, so requests waiting
+     * for a concurrent lookup of the same id hold no connection.
+     *
+     * @param id the category id
+     * @return a copy of the category
+     */
+    public Category get(Long id) {
+        return categoryCache.get(id, categoryRepository::findById).orElseThrow(() -> new CategoryNotFoundException(id));
+    }
 
-        return category;
+    /**
+     * Get a category with one ordered slice of its events. Upcoming slices are served from the
+     * {@link UpcomingEventWindow} when it covers them. No count query runs unless {@code includeTotal}
+     * is set, and then the total comes from a short-lived cache.
+     *
+     * @param id           the category id
+     * @param page         the zero-based page number
+     * @param size         the page size, capped at {@link EventService#MAX_PAGE_SIZE}
+     * @param upcoming     whether only upcoming events are returned
+     * @param includeTotal whether the (approximate) total number of events is included
+     * @return the category with its events
+     */
+    @Transactional(readOnly = true)
+    public CategoryWithEventsDto getWithEvents(Long id, int page, int size, boolean upcoming, boolean includeTotal) {
+        Category category = get(id);
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, EventService.MAX_PAGE_SIZE)));
+
+        Slice<EventView> events = upcoming
+                ? upcomingEventWindow.findUpcoming(id, pageable)
+                        .orElseGet(() -> eventRepository.findUpcomingEventsByCategory(category, pageable))
+                : eventRepository.findByCategory(category, pageable);
+
+        Long totalEvents = includeTotal ? eventCountCache.count(id, upcoming, () -> upcoming
+                ? eventRepository.countUpcomingByCategory(category)
+                : eventRepository.countByCategory(category)) : null;
+
+        return new CategoryWithEventsDto(category, events, totalEvents);
     }
 
+    /**
+     * Get a lazy reference to a category for use as an association, without querying it.
+     *
+     * @param id the category id
+     * @return an uninitialized reference
+     */
+    public Category getReference(Long id) {
+        return categoryRepository.getReferenceById(id);
+    }
 
     public Category get(String name) {
-        return categoryRepository.findByName(name)
+        return categoryCache.get(name, () -> categoryRepository.findByName(name))
                 .orElseThrow(() -> new CategoryNotFoundException(name));
     }
 
@@ -56,7 +126,10 @@ public class CategoryService {
             category.setCreatedAt(null);
             category.setUpdatedAt(null);
 
-            return categoryRepository.save(category);
+            Category savedCategory = categoryRepository.save(category);
+            categoryCache.invalidate();
+
+            return savedCategory;
         } catch (RuntimeException ex) {
             ex.printStackTrace();
             throw new CategoryNotValidException("Invalid category data: " + ex.getMessage());
@@ -66,20 +139,27 @@ public class CategoryService {
     public Category create(Category category) {
         if (categoryRepository.existsByName(category.getName())) {
             throw new AlreadyExistsException("This category is already registered");
-        } else {
-            return save(category);
         }
+
+        Category savedCategory = save(category);
+        eventPublisher.publishEvent(CategoryChange.created(savedCategory.getId()));
+
+        return savedCategory;
     }
 
     public Category update(Long categoryId, CategoryDto categoryDto) {
-        Category categoryFromDb = get(categoryId);
+        Category categoryFromDb = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new CategoryNotFoundException(categoryId));
 
         if (categoryDto.getName() != null &&
                 checkNameUpdate(categoryFromDb.getName(), categoryDto.getName())) {
             categoryFromDb.setName(categoryDto.getName());
         }
 
-        return save(categoryFromDb);
+        Category savedCategory = save(categoryFromDb);
+        eventPublisher.publishEvent(CategoryChange.updated(categoryId));
+
+        return savedCategory;
     }
 
     public boolean checkNameUpdate(String nameFromDb, String updatedName) {
@@ -92,6 +172,8 @@ public class CategoryService {
     public void delete(Long id) {
         if (categoryRepository.existsById(id)) {
             categoryRepository.deleteById(id);
+            categoryCache.invalidate();
+            eventPublisher.publishEvent(CategoryChange.deleted(id));
         } else {
             throw new CategoryNotFoundException(id);
         }
@@ -0,0 +1,279 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.ChangeNotificationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent change feed of committed event and category mutations.
+ * <p>
+ * Every subscriber has a bounded buffer drained by its own (virtual) sender thread, so a slow client never
+ * delays the others or the writers: a subscriber whose buffer overflows is disconnected and resumes with
+ * {@code Last-Event-ID}. The last {@code replay-size} notifications are kept in a ring buffer for resuming;
+ * a client resuming from further back than that, or than its buffer holds, gets a {@value #RESET_EVENT}
+ * message and should re-read the events. A bulk change, such as a CSV import, is sent to every subscriber
+ * as a {@value #RESET_EVENT} too, with an id so that it can be resumed from.
+ * <p>
+ * Notification sequence numbers are local to one service instance and boot, so the SSE ids are prefixed
+ * with a random epoch, {@code <epoch>:<sequence>}. A client resuming with an id of another instance or
+ * boot, or one this feed has not issued yet, gets a {@value #RESET_EVENT} as well.
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+    public static final String EVENT_CHANGE_EVENT = "event-change";
+
+    public static final String CATEGORY_CHANGE_EVENT = "category-change";
+
+    public static final String RESET_EVENT = "reset";
+
+    private static final char ID_SEPARATOR = ':';
+
+    private final Executor executor;
+
+    private final String epoch;
+
+    private final int bufferSize;
+
+    private final Duration timeout;
+
+    private final ChangeNotificationDto[] history;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Counter slowConsumers;
+
+    private long sequence;
+
+    @Autowired
+    public ChangeFeedService(
+            @Value("${eventsphere.changes.buffer-size:256}") int bufferSize,
+            @Value("${eventsphere.changes.replay-size:1024}") int replaySize,
+            @Value("${eventsphere.changes.timeout:PT30M}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), Long.toString(new SecureRandom().nextLong() >>> 1, 36),
+                bufferSize, replaySize, timeout, meterRegistry);
+    }
+
+    ChangeFeedService(Executor executor, String epoch, int bufferSize, int replaySize, Duration timeout,
+                      MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.epoch = epoch;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.history = new ChangeNotificationDto[replaySize];
+        this.slowConsumers = meterRegistry.counter("events.changes.slow-consumers");
+
+        Gauge.builder("events.changes.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Subscribe to the change feed.
+     *
+     * @param categoryId  only notify about this category and its events, including events moving out of it,
+     *                    or {@code null} for all changes
+     * @param lastEventId the SSE id of the last notification the client received, or {@code null} for a new feed
+     * @return the emitter streaming the notifications
+     */
+    public SseEmitter subscribe(Long categoryId, String lastEventId) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(categoryId, emitter);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            replay(subscriber, lastEventId);
+            subscribers.add(subscriber);
+        }
+
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        Long categoryId = change.getEvent().getCategory() != null ? change.getEvent().getCategory().getId() : null;
+        Long previousCategoryId = Objects.equals(change.getPreviousCategoryId(), categoryId)
+                ? null : change.getPreviousCategoryId();
+
+        publish(ChangeNotificationDto.Entity.EVENT, change.getType(), change.getEventId(), categoryId,
+                previousCategoryId, change.getFields(), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsImported(EventsImported imported) {
+        publish(ChangeNotificationDto.Entity.EVENT, ChangeType.CREATED, null, null, null, null,
+                imported.getCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChange(CategoryChange change) {
+        publish(ChangeNotificationDto.Entity.CATEGORY, change.getType(), change.getCategoryId(),
+                change.getCategoryId(), null, null, null);
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    private synchronized void publish(ChangeNotificationDto.Entity entity, ChangeType type, Long entityId,
+                                      Long categoryId, Long previousCategoryId, Set<EventField> fields,
+                                      Long count) {
+        ChangeNotificationDto notification = new ChangeNotificationDto(++sequence, entity, type, entityId,
+                categoryId, previousCategoryId, fields, count, Instant.now());
+        history[(int) (notification.getId() % history.length)] = notification;
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(notification);
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        Long lastId = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - Math.min(history.length, bufferSize) + 1);
+        if (lastId == null || lastId > sequence || lastId + 1 < oldest) {
+            subscriber.enqueue(SseEmitter.event().name(RESET_EVENT).data(""));
+            return;
+        }
+
+        for (long id = lastId + 1; id <= sequence; id++) {
+            subscriber.offer(history[(int) (id % history.length)]);
+        }
+    }
+
+    /**
+     * @return the sequence number of an SSE id issued by this feed, or {@code null} for any other id
+     */
+    private Long parseSequence(String lastEventId) {
+        String id = lastEventId.trim();
+        int separator = id.indexOf(ID_SEPARATOR);
+        if (separator < 0 || !epoch.equals(id.substring(0, separator))) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(id.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private String eventId(ChangeNotificationDto notification) {
+        return epoch + ID_SEPARATOR + notification.getId();
+    }
+
+    private final class Subscriber {
+
+        private final Long categoryId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Subscriber(Long categoryId, SseEmitter emitter) {
+            this.categoryId = categoryId;
+            this.emitter = emitter;
+        }
+
+        void offer(ChangeNotificationDto notification) {
+            boolean bulk = notification.getEntityId() == null;
+            if (!bulk && categoryId != null && !Objects.equals(categoryId, notification.getCategoryId())
+                    && !Objects.equals(categoryId, notification.getPreviousCategoryId())) {
+                // An event moving out of the category is still sent, so the subscriber can drop it
+                return;
+            }
+
+            enqueue(SseEmitter.event()
+                    .id(eventId(notification))
+                    .name(bulk ? RESET_EVENT
+                            : notification.getEntity() == ChangeNotificationDto.Entity.EVENT
+                            ? EVENT_CHANGE_EVENT : CATEGORY_CHANGE_EVENT)
+                    .data(notification, MediaType.APPLICATION_JSON));
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+
+            if (!buffer.offer(event)) {
+                // Completing the emitter waits for a send in progress, so leave it to the sender thread
+                log.debug("Disconnecting slow change feed subscriber");
+                slowConsumers.increment();
+                subscribers.remove(this);
+                closed.set(true);
+                buffer.clear();
+            }
+
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            if (closed.get()) {
+                if (completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } else if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+}
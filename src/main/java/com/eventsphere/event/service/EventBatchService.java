@@ -0,0 +1,142 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.exception.CategoryNotFoundException;
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.dto.EventBatchItemResultDto;
+import com.eventsphere.event.model.dto.EventBatchResultDto;
+import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.dto.adapter.EventCreateDtoAdapter;
+import com.eventsphere.event.repository.EventRepository;
+import com.eventsphere.event.util.ErrorUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Creates many events in one transaction, inserting them through JDBC batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventBatchService {
+
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    static final int FLUSH_SIZE = 50;
+
+    private final EventRepository eventRepository;
+
+    private final EventCreateDtoAdapter eventCreateDtoAdapter;
+
+    private final CategoryService categoryService;
+
+    private final Validator validator;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Validate every item, resolve each distinct category once and insert the valid events.
+     * Invalid items are reported and skipped; they never fail the whole batch.
+     *
+     * @param dtos the events to create
+     * @return per-item results in request order
+     */
+    @Transactional
+    public EventBatchResultDto create(List<EventCreateDto> dtos) {
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new EventNotValidException("A batch can contain at most " + MAX_BATCH_SIZE + " events");
+        }
+
+        Map<String, Optional<Category>> categories = new HashMap<>();
+        List<EventBatchItemResultDto> results = new ArrayList<>(dtos.size());
+        List<Event> pending = new ArrayList<>(FLUSH_SIZE);
+        List<Integer> pendingIndexes = new ArrayList<>(FLUSH_SIZE);
+        int created = 0;
+
+        for (int i = 0; i < dtos.size(); i++) {
+            EventCreateDto dto = dtos.get(i);
+            if (dto == null) {
+                results.add(EventBatchItemResultDto.rejected(i, Map.of("event", List.of("Provide an event"))));
+                continue;
+            }
+
+            Set<ConstraintViolation<EventCreateDto>> violations = validator.validate(dto);
+
+            if (!violations.isEmpty()) {
+                results.add(EventBatchItemResultDto.rejected(i, ErrorUtils.getViolations(violations)));
+                continue;
+            }
+
+            Optional<Category> category = categories.computeIfAbsent(dto.getCategory(), this::findCategory);
+            if (category.isEmpty()) {
+                results.add(EventBatchItemResultDto.rejected(i, Map.of(
+                        "category", List.of("Can't find the category with the name " + dto.getCategory())
+                )));
+                continue;
+            }
+
+            results.add(null);
+            pending.add(eventCreateDtoAdapter.fromDto(dto, category.get()));
+            pendingIndexes.add(i);
+
+            if (pending.size() == FLUSH_SIZE) {
+                created += flush(pending, pendingIndexes, results);
+            }
+        }
+
+        created += flush(pending, pendingIndexes, results);
+
+        return new EventBatchResultDto(created, dtos.size() - created, results);
+    }
+
+    private Optional<Category> findCategory(String name) {
+        try {
+            return Optional.of(categoryService.get(name));
+        } catch (CategoryNotFoundException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private int flush(List<Event> pending, List<Integer> pendingIndexes, List<EventBatchItemResultDto> results) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Event> saved;
+        try {
+            saved = eventRepository.saveAll(pending);
+            eventRepository.flush();
+        } catch (RuntimeException ex) {
+            throw new EventNotValidException("Invalid Event data: " + ex.getMessage());
+        }
+
+        for (int j = 0; j < saved.size(); j++) {
+            int index = pendingIndexes.get(j);
+            results.set(index, EventBatchItemResultDto.created(index, saved.get(j).getId()));
+            eventPublisher.publishEvent(EventChange.created(EventView.of(saved.get(j))));
+        }
+
+        int count = saved.size();
+        entityManager.clear();
+        pending.clear();
+        pendingIndexes.clear();
+
+        return count;
+    }
+}
@@ -0,0 +1,159 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.model.dto.EventExportDto;
+import com.eventsphere.event.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the full event catalogue straight from a database cursor to an output stream.
+ */
+@Service
+public class EventExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String CSV_HEADER =
+            "id,creatorId,title,description,imageUrl,location,date,time,createdAt,updatedAt,category";
+
+    private final EventRepository eventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration timeout;
+
+    public EventExportService(
+            EventRepository eventRepository,
+            ObjectMapper objectMapper,
+            @Value("${eventsphere.export.timeout:PT0S}") Duration timeout
+    ) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+        CSV(MediaType.parseMediaType("text/csv"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    /**
+     * @return the timeout of an export request, zero for none, since an export streams for as long as the
+     * table takes to read
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Write every event to the given stream in the requested format.
+     * Rows are read in fetch-size bounded chunks and never collected in memory.
+     *
+     * @param out    the target stream, left open
+     * @param format the output format
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public void export(OutputStream out, Format format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try (Stream<EventExportDto> rows = eventRepository.streamAllForExport()) {
+            if (format == Format.CSV) {
+                writeCsv(rows.iterator(), writer);
+            } else {
+                writeNdjson(rows.iterator(), writer);
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<EventExportDto> rows, Writer writer) throws IOException {
+        ObjectWriter rowWriter = objectMapper.writerFor(EventExportDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        int count = 0;
+        while (rows.hasNext()) {
+            rowWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<EventExportDto> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        int count = 0;
+        while (rows.hasNext()) {
+            EventExportDto row = rows.next();
+
+            writer.write(csvLine(
+                    row.getId(), row.getCreatorId(), row.getTitle(), row.getDescription(), row.getImageUrl(),
+                    row.getLocation(), row.getDate(), row.getTime(), row.getCreatedAt(), row.getUpdatedAt(),
+                    row.getCategory()
+            ));
+            writer.write('\n');
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    static String csvLine(Object... values) {
+        StringBuilder line = new StringBuilder();
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            if (values[i] != null) {
+                line.append(csvEscape(values[i].toString()));
+            }
+        }
+
+        return line.toString();
+    }
+
+    private static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,376 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.EventBatchItemResultDto;
+import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.EventImportResultDto;
+import com.eventsphere.event.util.CsvReader;
+import com.eventsphere.event.util.ErrorUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk-loads events from CSV through PostgreSQL {@code COPY}.
+ * <p>
+ * The CSV is read as a stream in chunks of {@value #CHUNK_SIZE} records. Each chunk is validated in parallel
+ * against the {@link EventCreateDto} constraints, with every category name resolved from one category lookup,
+ * and the valid rows are copied into a temporary staging table. All staged rows are then inserted into
+ * {@code event} by a single statement, together with their outbox messages. The import is one transaction:
+ * rejected rows are reported and skipped, any other failure imports nothing.
+ * <p>
+ * Imported events are not published as individual {@code EventChange}s. One {@link EventsImported} after the
+ * commit tells the change feed, and makes the upcoming event window and the event count cache reload.
+ * Their outbox messages carry no payload; consumers load them by id.
+ */
+@Slf4j
+@Service
+public class EventImportService {
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("creatorId", "title", "date", "time", "category");
+
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    /**
+     * {@code timetz} text with the offset the driver would store, so imported and saved events agree.
+     */
+    private static final DateTimeFormatter COPY_TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSxxx");
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE event_import_staging
+            (
+                record_number BIGINT,
+                creator_id    BIGINT,
+                category_id   BIGINT,
+                title         VARCHAR(100),
+                description   VARCHAR(500),
+                image_url     VARCHAR(255),
+                location      VARCHAR(255),
+                date          DATE,
+                time          TIME WITH TIME ZONE,
+                starts_at     TIMESTAMPTZ
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_STAGING_TABLE = """
+            COPY event_import_staging (record_number, creator_id, category_id, title, description, image_url,
+                                       location, date, time, starts_at) FROM STDIN""";
+
+    private static final String INSERT_EVENTS = """
+            INSERT INTO "event" (creator_id, category_id, title, description, image_url, location, date, time,
+                                 starts_at)
+            SELECT creator_id, category_id, title, description, image_url, location, date, time, starts_at
+            FROM event_import_staging
+            ORDER BY record_number""";
+
+    private static final String INSERT_EVENTS_AND_OUTBOX = """
+            WITH imported AS (
+                %s
+                RETURNING id, category_id, version
+            )
+            INSERT INTO event_outbox (event_id, category_id, change_type, event_version)
+            SELECT id, category_id, 'CREATED', version
+            FROM imported""".formatted(INSERT_EVENTS);
+
+    private final CategoryService categoryService;
+
+    private final Validator validator;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean outboxEnabled;
+
+    private final int maxReportedRejections;
+
+    public EventImportService(
+            CategoryService categoryService,
+            Validator validator,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${eventsphere.outbox.enabled:true}") boolean outboxEnabled,
+            @Value("${eventsphere.import.max-reported-rejections:1000}") int maxReportedRejections
+    ) {
+        this.categoryService = categoryService;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.outboxEnabled = outboxEnabled;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * Import the events of a CSV with a header row. The columns are matched by the header names written by the
+     * CSV export ({@code creatorId, title, description, imageUrl, location, date, time, category}); other columns,
+     * such as {@code id} or {@code createdAt}, are ignored, so an export can be imported again.
+     *
+     * @param in the UTF-8 CSV, left open
+     * @return the number of imported and rejected rows and the reported rejections
+     * @throws EventNotValidException if the CSV has no header, lacks a required column or is malformed
+     */
+    @Transactional
+    public EventImportResultDto importCsv(InputStream in) {
+        CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = readHeader(nextRecord(csv));
+        Map<String, Long> categoryIds = categoryService.getAll().stream()
+                .collect(Collectors.toMap(Category::getName, Category::getId));
+
+        long start = System.nanoTime();
+        EventImportResultDto result = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> load(connection, csv, columns, categoryIds));
+
+        log.info("Imported {} events and rejected {} rows in {} ms", result.getImported(), result.getRejected(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        if (result.getImported() > 0) {
+            eventPublisher.publishEvent(new EventsImported(result.getImported()));
+        }
+
+        return result;
+    }
+
+    private EventImportResultDto load(Connection connection, CsvReader csv, Map<String, Integer> columns,
+                                      Map<String, Long> categoryIds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_TABLE);
+        }
+
+        List<EventBatchItemResultDto> rejections = new ArrayList<>();
+        long records = 0;
+        long rejected = 0;
+
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING_TABLE);
+        try {
+            List<List<String>> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> record;
+
+            while ((record = nextRecord(csv)) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    rejected += copyChunk(copyIn, chunk, records + 1, columns, categoryIds, rejections);
+                    records += chunk.size();
+                    chunk.clear();
+                }
+            }
+
+            rejected += copyChunk(copyIn, chunk, records + 1, columns, categoryIds, rejections);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        long imported;
+        try (Statement statement = connection.createStatement()) {
+            imported = statement.executeLargeUpdate(outboxEnabled ? INSERT_EVENTS_AND_OUTBOX : INSERT_EVENTS);
+        }
+
+        return new EventImportResultDto(imported, rejected, rejections);
+    }
+
+    private long copyChunk(CopyIn copyIn, List<List<String>> chunk, long firstRecordNumber,
+                           Map<String, Integer> columns, Map<String, Long> categoryIds,
+                           List<EventBatchItemResultDto> rejections) throws SQLException {
+        List<ImportRow> rows = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> toRow(chunk.get(i), firstRecordNumber + i, columns, categoryIds))
+                .toList();
+
+        StringBuilder copy = new StringBuilder(chunk.size() * 256);
+        long rejected = 0;
+
+        for (ImportRow row : rows) {
+            if (row.copyLine() != null) {
+                copy.append(row.copyLine());
+                continue;
+            }
+
+            rejected++;
+            if (rejections.size() < maxReportedRejections) {
+                rejections.add(EventBatchItemResultDto.rejected((int) row.recordNumber(), row.errors()));
+            }
+        }
+
+        byte[] bytes = copy.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+
+        return rejected;
+    }
+
+    /**
+     * Validate one CSV record and convert it to a line of the staging table's {@code COPY} text format.
+     *
+     * @param record       the fields of the record
+     * @param recordNumber the number of the record, counting data rows from 1
+     * @param columns      the field index of each column name
+     * @param categoryIds  the category ids by name
+     * @return the {@code COPY} line, or the errors if the record is rejected
+     */
+    ImportRow toRow(List<String> record, long recordNumber, Map<String, Integer> columns,
+                    Map<String, Long> categoryIds) {
+        Map<String, List<String>> parseErrors = new HashMap<>();
+
+        EventCreateDto dto = new EventCreateDto(
+                parse(record, columns, "creatorId", Long::valueOf, parseErrors),
+                field(record, columns, "title"),
+                field(record, columns, "description"),
+                field(record, columns, "imageUrl"),
+                field(record, columns, "location"),
+                parse(record, columns, "date", Date::valueOf, parseErrors),
+                parse(record, columns, "time", Time::valueOf, parseErrors),
+                field(record, columns, "category")
+        );
+
+        Map<String, List<String>> errors = ErrorUtils.getViolations(validator.validate(dto));
+        errors.putAll(parseErrors);
+
+        Long categoryId = dto.getCategory() != null ? categoryIds.get(dto.getCategory()) : null;
+        if (dto.getCategory() != null && categoryId == null) {
+            errors.put("category", List.of("Can't find the category with the name " + dto.getCategory()));
+        }
+        if (dto.getImageUrl() != null && dto.getImageUrl().length() > MAX_TEXT_LENGTH) {
+            errors.put("imageUrl", List.of("Image URL must be no more than " + MAX_TEXT_LENGTH + " characters"));
+        }
+        if (dto.getLocation() != null && dto.getLocation().length() > MAX_TEXT_LENGTH) {
+            errors.put("location", List.of("Location must be no more than " + MAX_TEXT_LENGTH + " characters"));
+        }
+
+        if (!errors.isEmpty()) {
+            return new ImportRow(recordNumber, null, errors);
+        }
+
+        Timestamp startsAt = Event.startsAt(dto.getDate(), dto.getTime());
+
+        return new ImportRow(recordNumber, copyLine(recordNumber, dto.getCreatorId(), categoryId, dto.getTitle(),
+                dto.getDescription(), dto.getImageUrl(), dto.getLocation(), dto.getDate(),
+                COPY_TIME.format(Event.offsetTime(dto.getTime())), startsAt.toInstant()), null);
+    }
+
+    private static Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new EventNotValidException("The CSV is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim(), i);
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new EventNotValidException("The CSV header is missing the columns " + String.join(", ", missing));
+        }
+
+        return columns;
+    }
+
+    private static List<String> nextRecord(CsvReader csv) {
+        try {
+            return csv.next();
+        } catch (IOException ex) {
+            throw new EventNotValidException("Can't read the CSV: " + ex.getMessage());
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+
+        return record.get(index);
+    }
+
+    private static <T> T parse(List<String> record, Map<String, Integer> columns, String column,
+                               Function<String, T> parser, Map<String, List<String>> errors) {
+        String value = field(record, columns, column);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return parser.apply(value.trim());
+        } catch (IllegalArgumentException ex) {
+            errors.put(column, List.of("Invalid " + column + " " + value));
+            return null;
+        }
+    }
+
+    static String copyLine(Object... values) {
+        StringBuilder line = new StringBuilder(256);
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            if (values[i] == null) {
+                line.append("\\N");
+            } else {
+                copyEscape(values[i].toString(), line);
+            }
+        }
+
+        return line.append('\n').toString();
+    }
+
+    private static void copyEscape(String value, StringBuilder line) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                default -> line.append(c);
+            }
+        }
+    }
+
+    /**
+     * A validated CSV record: its {@code COPY} line if it is valid, its errors otherwise.
+     */
+    record ImportRow(long recordNumber, String copyLine, Map<String, List<String>> errors) {
+    }
+}
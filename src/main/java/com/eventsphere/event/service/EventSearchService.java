@@ -0,0 +1,81 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.dto.EventSearchPage;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.EventSearchHit;
+import com.eventsphere.event.repository.EventRepository;
+import com.eventsphere.event.util.EventSearchCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked full-text search over event title, description and location.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventSearchService {
+
+    private final EventRepository eventRepository;
+
+    /**
+     * Search events and return one page of results in rank order.
+     *
+     * @param query the web-search style query
+     * @param after the opaque cursor of the previous page, or {@code null} for the first page
+     * @param limit the requested page size, capped at {@link EventService#MAX_PAGE_SIZE}
+     * @return the page of events and the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public EventSearchPage search(String query, String after, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new EventNotValidException("Provide a search query");
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, EventService.MAX_PAGE_SIZE));
+        List<EventSearchHit> hits;
+
+        if (after == null || after.isBlank()) {
+            hits = eventRepository.search(query, pageSize + 1);
+        } else {
+            EventSearchCursor cursor = EventSearchCursor.decode(after);
+            hits = eventRepository.searchAfter(query, cursor.getRank(), cursor.getId(), pageSize + 1);
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? EventSearchCursor.of(hits.get(hits.size() - 1)).encode() : null;
+
+        return new EventSearchPage(loadInOrder(hits), nextCursor);
+    }
+
+    private List<EventView> loadInOrder(List<EventSearchHit> hits) {
+        List<Long> ids = hits.stream().map(EventSearchHit::getId).toList();
+        Map<Long, EventView> eventsById = new HashMap<>();
+
+        if (!ids.isEmpty()) {
+            for (EventView event : eventRepository.findViewsByIdIn(ids)) {
+                eventsById.put(event.getId(), event);
+            }
+        }
+
+        List<EventView> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            EventView event = eventsById.get(id);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        return events;
+    }
+}
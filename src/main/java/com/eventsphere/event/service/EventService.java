@@ -1,31 +1,110 @@
 package com.eventsphere.event.service;
 
+import com.eventsphere.event.cache.EventViewCache;
 import com.eventsphere.event.exception.EventNotFoundException;
 import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.exception.PreconditionFailedException;
+import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
 import com.eventsphere.event.model.dto.EventCreateDto;
 import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.EventView;
 import com.eventsphere.event.model.dto.adapter.EventCreateDtoAdapter;
 import com.eventsphere.event.model.dto.adapter.EventUpdateDtoAdapter;
 import com.eventsphere.event.repository.EventRepository;
+import com.eventsphere.event.util.ConditionalRequests;
+import com.eventsphere.event.util.EventCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static final String ETAG_KIND = "event";
+
     private final EventRepository eventRepository;
 
     private final EventCreateDtoAdapter eventCreateDtoAdapter;
 
     private final EventUpdateDtoAdapter eventUpdateDtoAdapter;
 
-    public List<Event> getAll() {
-        return eventRepository.findAll();
+    private final CategoryService categoryService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EventViewCache eventViewCache;
+
+    /**
+     * Get a page of events in {@code (date, time, id)} order using keyset pagination.
+     *
+     * @param after the opaque cursor of the previous page, or {@code null} for the first page
+     * @param limit the requested page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return a slice of unmanaged event views
+     */
+    @Transactional(readOnly = true)
+    public Slice<EventView> getPage(String after, int limit) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+
+        if (after == null || after.isBlank()) {
+            return eventRepository.findFirstPage(pageable);
+        }
+
+        EventCursor cursor = EventCursor.decode(after);
+
+        return eventRepository.findPageAfter(cursor.getDate(), cursor.getTime(), cursor.getId(), pageable);
+    }
+
+    /**
+     * Get the view of an event to check conditional requests against. It is the same cached view that
+     * {@link #getView(Long)} serves, so a conditional GET loads the event at most once.
+     *
+     * @param id the event id
+     * @return the view, or empty if the event does not exist
+     */
+    public Optional<EventView> findView(Long id) {
+        return eventViewCache.get(id, eventRepository::findViewById);
+    }
+
+    /**
+     * Build the entity tag of an event from its version, so that two writes within the same millisecond
+     * still yield different tags, and from its category, whose name is embedded in the view.
+     *
+     * @param event the event view
+     * @return the quoted entity tag
+     */
+    public static String etag(EventView event) {
+        EventView.CategoryView category = event.getCategory();
+        return ConditionalRequests.versionEtag(ETAG_KIND, event.getId(), event.getVersion(),
+                category != null ? category.getId() : null, category != null ? category.getUpdatedAt() : null);
+    }
+
+    /**
+     * Get an unmanaged, read-only view of an event for the detail GET. Concurrent requests for the same
+     * event share one query through the {@link EventViewCache}. This runs outside a transaction, so requests
+     * waiting for that query hold no connection; the query opens its own read-only transaction, see
+     * {@link EventRepository#findViewById(Long)}.
+     *
+     * @param id the event id
+     * @return the event view
+     */
+    public EventView getView(Long id) {
+        return eventViewCache.get(id, eventRepository::findViewById).orElseThrow(() -> new EventNotFoundException(id));
     }
 
     public Event get(Long id) {
@@ -48,26 +127,70 @@ public class EventService {
         return savedEvent;
     }
 
+    @Transactional
     public Event create(EventCreateDto eventCreateDto) {
         Event createdEvent = eventCreateDtoAdapter.fromDto(eventCreateDto);
 
         // TODO Check if user exists
 
-        return eventRepository.save(createdEvent);
+        Event savedEvent = eventRepository.save(createdEvent);
+        eventPublisher.publishEvent(EventChange.created(EventView.of(savedEvent)));
+
+        return savedEvent;
     }
 
-    public Event update(Long eventId, EventUpdateDto eventUpdateDto) {
-        Event updatedEvent = eventUpdateDtoAdapter.updateEventFromDto(get(eventId), eventUpdateDto);
+    /**
+     * Apply a partial update to an event. The event is loaded without its category, only the fields
+     * in the change mask are written, in a single UPDATE, and the version column rejects the update if
+     * a concurrent one committed first. A patch that changes nothing writes nothing.
+     *
+     * @param eventId        the event id
+     * @param eventUpdateDto the patch
+     * @param ifMatch        the {@code If-Match} header value, or {@code null} for an unconditional update
+     * @return a view of the updated event
+     * @throws PreconditionFailedException if the event no longer matches {@code ifMatch}
+     */
+    @Transactional
+    public EventView update(Long eventId, EventUpdateDto eventUpdateDto, String ifMatch) {
+        Event event = eventRepository.findForUpdateById(eventId).orElseThrow(() -> new EventNotFoundException(eventId));
+
+        if (ifMatch != null && !ConditionalRequests.matchesIfMatch(ifMatch, etag(viewOf(event)))) {
+            throw new PreconditionFailedException("The event " + eventId + " was modified since it was read");
+        }
+
+        Long previousCategoryId = event.getCategory() != null ? event.getCategory().getId() : null;
+        Set<EventField> changes = eventUpdateDtoAdapter.updateEventFromDto(event, eventUpdateDto);
+
+        if (!changes.isEmpty()) {
+            try {
+                eventRepository.flush();
+            } catch (OptimisticLockingFailureException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                throw new EventNotValidException("Invalid Event data: " + ex.getMessage());
+            }
+        }
+
+        EventView view = viewOf(event);
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(EventChange.updated(view, changes, previousCategoryId));
+        }
 
-        return save(updatedEvent);
+        return view;
     }
 
+    private EventView viewOf(Event event) {
+        Category category = event.getCategory() != null ? categoryService.get(event.getCategory().getId()) : null;
+        return EventView.of(event, category);
+    }
+
+    @Transactional
     public void delete(Long id) {
-        if (eventRepository.existsById(id)) {
-            eventRepository.deleteById(id);
-        } else {
-            throw new EventNotFoundException(id);
-        }
+        EventView event = eventRepository.findViewById(id).orElseThrow(() -> new EventNotFoundException(id));
+
+        eventRepository.deleteById(id);
+        eventPublisher.publishEvent(EventChange.deleted(event));
     }
 
 }
@@ -0,0 +1,30 @@
+package com.eventsphere.event.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives one async request its own timeout, overriding {@code spring.mvc.async.request-timeout}, e.g. for a
+ * streamed response that may run far longer than any other request. Register it from the handler on the
+ * {@code WebAsyncManager} of the request; it sets the timeout right before the async processing starts.
+ */
+@RequiredArgsConstructor
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    /**
+     * The timeout; zero or negative means none.
+     */
+    private final Duration timeout;
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout.isNegative() ? 0 : timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.eventsphere.event.util;
+
+import com.eventsphere.event.config.BinaryFormatsConfig;
+import lombok.experimental.UtilityClass;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@UtilityClass
+public class ConditionalRequests {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final String VARIANT_SEPARATOR = "+";
+
+    private static final String DEFAULT_VARIANT = "json";
+
+    /**
+     * The representations of a response by variant name, in the order the message converters are tried.
+     */
+    private static final Map<String, List<MediaType>> VARIANTS = variants();
+
+    /**
+     * Build a strong entity tag from a resource kind, its id and its last update time.
+     *
+     * @param kind      a short resource kind, e.g. {@code event}
+     * @param id        the resource id
+     * @param updatedAt the last update time
+     * @return the quoted entity tag
+     */
+    public String etag(String kind, Long id, Timestamp updatedAt) {
+        return "\"" + kind + "-" + id + "-" + (updatedAt != null ? updatedAt.getTime() : 0) + "\"";
+    }
+
+    /**
+     * Build a strong entity tag from a resource kind, its id and optimistic-locking version, which unlike the
+     * update time changes on every committed write, and the id and last update time of a related resource
+     * whose data is embedded in the representation and changes without the version.
+     *
+     * @param kind             a short resource kind, e.g. {@code event}
+     * @param id               the resource id
+     * @param version          the version
+     * @param relatedId        the related resource id, or {@code null} if there is none
+     * @param relatedUpdatedAt the last update time of the related resource
+     * @return the quoted entity tag
+     */
+    public String versionEtag(String kind, Long id, Long version, Long relatedId, Timestamp relatedUpdatedAt) {
+        return "\"" + kind + "-" + id + "-" + (version != null ? version : 0)
+                + "-" + (relatedId != null ? relatedId : 0)
+                + "-" + (relatedUpdatedAt != null ? relatedUpdatedAt.getTime() : 0) + "\"";
+    }
+
+    /**
+     * Make an entity tag specific to the representation the request negotiates, so that the JSON, XML,
+     * CBOR and Smile documents of one resource state never share a tag. Responses carrying it must also
+     * {@code Vary} on {@code Accept}.
+     *
+     * @param etag           the quoted entity tag of the resource state
+     * @param requestHeaders the request headers
+     * @return the quoted entity tag of the negotiated representation
+     */
+    public String variantEtag(String etag, HttpHeaders requestHeaders) {
+        return etag.substring(0, etag.length() - 1) + VARIANT_SEPARATOR + variant(requestHeaders) + "\"";
+    }
+
+    /**
+     * Build a strong entity tag for a collection from the ids and update times of its elements.
+     *
+     * @param kind       a short resource kind, e.g. {@code categories}
+     * @param ids        the element ids, in response order
+     * @param updatedAts the element update times, in the same order
+     * @return the quoted entity tag
+     */
+    public String etag(String kind, Collection<Long> ids, Collection<Timestamp> updatedAts) {
+        long hash = 17;
+
+        for (Long id : ids) {
+            hash = 31 * hash + (id != null ? id : 0);
+        }
+        for (Timestamp updatedAt : updatedAts) {
+            hash = 31 * hash + (updatedAt != null ? updatedAt.getTime() : 0);
+        }
+
+        return "\"" + kind + "-" + ids.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Check the {@code If-None-Match} and {@code If-Modified-Since} preconditions of a GET request.
+     * {@code If-Modified-Since} is only considered when no {@code If-None-Match} header is present.
+     *
+     * @param requestHeaders the request headers
+     * @param etag           the current entity tag of the resource
+     * @param lastModified   the last modification time of the resource, or {@code null} if unknown
+     * @return true if the client's copy is still current and a 304 can be returned
+     */
+    public boolean isNotModified(HttpHeaders requestHeaders, String etag, Timestamp lastModified) {
+        Collection<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+
+        if (!ifNoneMatch.isEmpty()) {
+            for (String candidate : ifNoneMatch) {
+                if ("*".equals(candidate) || stripWeak(candidate).equals(stripWeak(etag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+
+        return ifModifiedSince >= 0 && lastModified != null
+                && lastModified.getTime() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * Check an {@code If-Match} precondition using the strong comparison required for writes. Any
+     * representation of the current state matches, whatever variant its tag was issued for.
+     *
+     * @param ifMatch the raw {@code If-Match} header value, or {@code null} if absent
+     * @param etag    the current entity tag of the resource
+     * @return true if the header is absent, is {@code *}, or lists the current entity tag
+     */
+    public boolean matchesIfMatch(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || stripVariant(tag).equals(stripVariant(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private String stripVariant(String tag) {
+        int separator = tag.lastIndexOf(VARIANT_SEPARATOR);
+        return separator >= 0 && tag.endsWith("\"") ? tag.substring(0, separator) + "\"" : tag;
+    }
+
+    /**
+     * Pick the variant the message converters will write: the accepted media types are tried by
+     * quality, concrete types before wildcards, against the variants in converter order.
+     */
+    private String variant(HttpHeaders requestHeaders) {
+        List<MediaType> accepted = new ArrayList<>(requestHeaders.getAccept());
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                .thenComparing(MediaType::isWildcardType)
+                .thenComparing(MediaType::isWildcardSubtype));
+
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (Map.Entry<String, List<MediaType>> variant : VARIANTS.entrySet()) {
+                if (variant.getValue().stream().anyMatch(type::isCompatibleWith)) {
+                    return variant.getKey();
+                }
+            }
+        }
+        return DEFAULT_VARIANT;
+    }
+
+    private static Map<String, List<MediaType>> variants() {
+        Map<String, List<MediaType>> variants = new LinkedHashMap<>();
+        variants.put(DEFAULT_VARIANT, List.of(MediaTypes.HAL_JSON, MediaType.APPLICATION_JSON));
+        variants.put("xml", List.of(MediaType.APPLICATION_XML, MediaType.TEXT_XML));
+        variants.put("cbor", List.of(MediaType.APPLICATION_CBOR));
+        variants.put("smile", List.of(BinaryFormatsConfig.APPLICATION_SMILE));
+        return variants;
+    }
+}
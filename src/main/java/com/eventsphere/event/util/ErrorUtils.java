@@ -1,5 +1,6 @@
 package com.eventsphere.event.util;
 
+import jakarta.validation.ConstraintViolation;
 import lombok.experimental.UtilityClass;
 import org.springframework.validation.FieldError;
 
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @UtilityClass
 public class ErrorUtils {
@@ -27,4 +29,21 @@ public class ErrorUtils {
 
         return errorsMap;
     }
+
+    /**
+     * Convert a set of constraint violations to a map of property paths and their corresponding error messages.
+     *
+     * @param violations the constraint violations
+     * @return a map containing property paths as keys and error messages as values
+     */
+    public <T> Map<String, List<String>> getViolations(Set<ConstraintViolation<T>> violations) {
+        Map<String, List<String>> errorsMap = new HashMap<>();
+
+        for (ConstraintViolation<T> violation : violations) {
+            errorsMap.computeIfAbsent(violation.getPropertyPath().toString(), key -> new ArrayList<>())
+                    .add(violation.getMessage());
+        }
+
+        return errorsMap;
+    }
 }
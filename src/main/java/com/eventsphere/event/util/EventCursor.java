@@ -0,0 +1,68 @@
+package com.eventsphere.event.util;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.dto.EventView;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over the {@code (date, time, id)} ordering of events.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class EventCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final Date date;
+    private final Time time;
+    private final Long id;
+
+    /**
+     * Create a cursor pointing right after the given event.
+     *
+     * @param event the last event of the current page
+     * @return the cursor for the next page
+     */
+    public static EventCursor of(EventView event) {
+        return new EventCursor(event.getDate(), event.getTime(), event.getId());
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws EventNotValidException if the token is malformed
+     */
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+
+            return new EventCursor(Date.valueOf(parts[0]), Time.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new EventNotValidException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * Encode this cursor as an URL-safe opaque token.
+     *
+     * @return the encoded token
+     */
+    public String encode() {
+        String raw = date + SEPARATOR + time + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package com.eventsphere.event.util;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.projection.EventSearchHit;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over the {@code (rank DESC, id ASC)} ordering of search results.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class EventSearchCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final Float rank;
+    private final Long id;
+
+    /**
+     * Create a cursor pointing right after the given search hit.
+     *
+     * @param hit the last hit of the current page
+     * @return the cursor for the next page
+     */
+    public static EventSearchCursor of(EventSearchHit hit) {
+        return new EventSearchCursor(hit.getRank(), hit.getId());
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws EventNotValidException if the token is malformed
+     */
+    public static EventSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+
+            return new EventSearchCursor(Float.valueOf(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new EventNotValidException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * Encode this cursor as an URL-safe opaque token.
+     *
+     * @return the encoded token
+     */
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,67 @@
+package com.eventsphere.event.util;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Resolved base URI of a controller, used to build per-item links by string concatenation
+ * instead of a {@code linkTo(methodOn(...))} proxy invocation per element.
+ * <p>
+ * The base URI is resolved once and cached for the duration of the current request.
+ */
+public final class LinkTemplate {
+
+    private static final String ATTRIBUTE_PREFIX = LinkTemplate.class.getName() + ".";
+
+    private final String baseUri;
+
+    private LinkTemplate(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Get the link template of a controller for the current request.
+     *
+     * @param controller the controller class
+     * @return the cached or freshly resolved template
+     */
+    public static LinkTemplate of(Class<?> controller) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return resolve(controller);
+        }
+
+        String key = ATTRIBUTE_PREFIX + controller.getName();
+        LinkTemplate template = (LinkTemplate) attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+
+        if (template == null) {
+            template = resolve(controller);
+            attributes.setAttribute(key, template, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return template;
+    }
+
+    private static LinkTemplate resolve(Class<?> controller) {
+        return new LinkTemplate(linkTo(controller).toUri().toString());
+    }
+
+    /**
+     * Build the link of a single item of the controller, i.e. {@code {base}/{id}}.
+     *
+     * @param id  the item id
+     * @param rel the link relation
+     * @return the link
+     */
+    public Link item(Object id, String rel) {
+        return Link.of(baseUri + "/" + id, LinkRelation.of(rel));
+    }
+
+    public String getBaseUri() {
+        return baseUri;
+    }
+}
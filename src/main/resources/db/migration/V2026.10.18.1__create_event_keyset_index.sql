@@ -0,0 +1,5 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Support keyset pagination over (date, time, id)
+CREATE INDEX IF NOT EXISTS idx_event_date_time_id ON "event" (date, time, id);
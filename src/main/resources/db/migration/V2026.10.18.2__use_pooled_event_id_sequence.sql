@@ -0,0 +1,5 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Hand out event ids in blocks of 50 so Hibernate can batch inserts (pooled optimizer)
+ALTER SEQUENCE event_id_seq INCREMENT BY 50;
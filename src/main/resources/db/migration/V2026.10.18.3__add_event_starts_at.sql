@@ -0,0 +1,12 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Single start instant so upcoming/range queries can use one index
+ALTER TABLE "event" ADD COLUMN starts_at TIMESTAMPTZ;
+
+UPDATE "event"
+SET starts_at = date + time
+WHERE date IS NOT NULL
+  AND time IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_event_category_starts_at ON "event" (category_id, starts_at);
@@ -0,0 +1,12 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Weighted full-text document over title, description and location
+ALTER TABLE "event"
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(location, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_event_search_vector ON "event" USING GIN (search_vector);
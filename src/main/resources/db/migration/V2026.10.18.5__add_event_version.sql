@@ -0,0 +1,5 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Optimistic locking counter, bumped by every update
+ALTER TABLE "event" ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
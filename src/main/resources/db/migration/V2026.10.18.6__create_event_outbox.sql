@@ -0,0 +1,16 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Event changes written in the same transaction as the change, relayed to other services and then deleted
+CREATE SEQUENCE event_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE event_outbox
+(
+    id             BIGINT PRIMARY KEY DEFAULT nextval('event_outbox_id_seq'),
+    event_id       BIGINT      NOT NULL,
+    category_id    BIGINT,
+    change_type    VARCHAR(16) NOT NULL,
+    changed_fields VARCHAR(255),
+    payload        TEXT,
+    created_at     TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
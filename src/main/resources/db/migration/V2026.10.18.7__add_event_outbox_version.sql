@@ -0,0 +1,8 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Version of the event after the change: messages are only ordered per event, by this version
+ALTER TABLE event_outbox ADD COLUMN event_version BIGINT;
+
+-- Support claiming the outbox in (created_at, id) order
+CREATE INDEX IF NOT EXISTS idx_event_outbox_created_at_id ON event_outbox (created_at, id);
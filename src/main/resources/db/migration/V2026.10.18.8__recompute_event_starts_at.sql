@@ -0,0 +1,10 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- starts_at is the date at the time with its stored UTC offset, like Event#startsAt. Events saved through JPA
+-- since V2026.10.18.3 took the time's wall clock in the JVM time zone instead, which differs from it whenever
+-- the stored offset is not the zone's current one.
+UPDATE "event"
+SET starts_at = date + time
+WHERE date IS NOT NULL
+  AND time IS NOT NULL;
@@ -0,0 +1,7 @@
+-- Set search path to event_service_schema
+SET search_path TO event_service_schema;
+
+-- Category pages are ordered by (starts_at, id), so the index must end with id for them to skip the sort step
+CREATE INDEX IF NOT EXISTS idx_event_category_starts_at_id ON "event" (category_id, starts_at, id);
+
+DROP INDEX IF EXISTS idx_event_category_starts_at;
@@ -0,0 +1,129 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.CategoryEventCounts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventCountCacheTest {
+
+    private final EventCountCache cache = new EventCountCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<Long> counter = () -> (long) loads.incrementAndGet();
+
+    private final Supplier<List<CategoryEventCounts>> groupedCounter = () -> {
+        loads.incrementAndGet();
+        return List.of();
+    };
+
+    private static EventView view(long categoryId) {
+        return new EventView(1L, 1L, "Event", null, null, null, null, null, null, null, null, 0L,
+                categoryId, "Category " + categoryId, null, null);
+    }
+
+    @Test
+    void repeatedCountsAreServedFromCache() {
+        // When
+        cache.count(1L, false, counter);
+        long count = cache.count(1L, false, counter);
+        cache.countAll(groupedCounter);
+        cache.countAll(groupedCounter);
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void createdEventDropsTheCountsOfItsCategory() {
+        // Given
+        cache.count(1L, false, counter);
+        cache.count(2L, false, counter);
+        cache.countAll(groupedCounter);
+
+        // When
+        cache.onEventChange(EventChange.created(view(1L)));
+        cache.count(1L, false, counter);
+        cache.count(2L, false, counter);
+        cache.countAll(groupedCounter);
+
+        // Then
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void titleUpdateKeepsCounts() {
+        // Given
+        cache.count(1L, false, counter);
+        cache.countAll(groupedCounter);
+
+        // When
+        cache.onEventChange(EventChange.updated(view(1L), Set.of(EventField.TITLE), 1L));
+        cache.count(1L, false, counter);
+        cache.countAll(groupedCounter);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void movedEventDropsTheCountsOfBothCategories() {
+        // Given
+        cache.count(1L, false, counter);
+        cache.count(2L, false, counter);
+        cache.count(3L, false, counter);
+
+        // When
+        cache.onEventChange(EventChange.updated(view(2L), Set.of(EventField.CATEGORY), 1L));
+        cache.count(1L, false, counter);
+        cache.count(2L, false, counter);
+        cache.count(3L, false, counter);
+
+        // Then
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void deletedCategoryDropsItsCounts() {
+        // Given
+        cache.count(1L, true, counter);
+        cache.countAll(groupedCounter);
+
+        // When
+        cache.onCategoryChange(CategoryChange.deleted(1L));
+        cache.count(1L, true, counter);
+        cache.countAll(groupedCounter);
+
+        // Then
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void importDropsEveryCount() {
+        // Given
+        cache.count(1L, true, counter);
+        cache.countAll(groupedCounter);
+
+        // When
+        cache.onEventsImported(new EventsImported(100));
+        cache.count(1L, true, counter);
+        cache.countAll(groupedCounter);
+
+        // Then
+        assertEquals(4, loads.get());
+    }
+}
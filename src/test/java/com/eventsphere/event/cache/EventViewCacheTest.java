@@ -0,0 +1,58 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.config.ReplicaRoutingDataSource;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.EventView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventViewCacheTest {
+
+    private final EventViewCache cache =
+            new EventViewCache(100, Duration.ofMinutes(1), Duration.ZERO, new SimpleMeterRegistry());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, Optional<EventView>> loader = id -> {
+        loads.incrementAndGet();
+        return Optional.of(EventView.of(Event.builder().id(id).title("Load " + loads.get()).build()));
+    };
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.forcePrimary(false);
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        // When
+        cache.get(1L, loader);
+        Optional<EventView> view = cache.get(1L, loader);
+
+        // Then
+        assertEquals("Load 1", view.orElseThrow().getTitle());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void readYourWritesWindowBypassesCache() {
+        // Given
+        cache.get(1L, loader);
+        ReplicaRoutingDataSource.forcePrimary(true);
+
+        // When
+        Optional<EventView> view = cache.get(1L, loader);
+
+        // Then
+        assertEquals("Load 2", view.orElseThrow().getTitle());
+        assertEquals(2, loads.get());
+    }
+}
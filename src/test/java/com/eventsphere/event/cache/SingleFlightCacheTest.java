@@ -0,0 +1,139 @@
+package com.eventsphere.event.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final List<Runnable> revalidations = new ArrayList<>();
+
+    private SingleFlightCache<Long, String> cache(Duration ttl, Duration staleWhileRevalidate) {
+        return new SingleFlightCache<>("test", 100, ttl, staleWhileRevalidate, revalidations::add, nanos::get,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        // Given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>("test", 100, Duration.ofMinutes(1),
+                Duration.ZERO, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> cache.get(1L, key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of("event");
+            })));
+        }
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        for (Future<Optional<String>> result : results) {
+            assertEquals(Optional.of("event"), result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void entryExpiresAfterTtl() {
+        // Given
+        SingleFlightCache<Long, String> cache = cache(Duration.ofSeconds(1), Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+
+        // When
+        Optional<String> cached = cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        Optional<String> reloaded = cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+
+        // Then
+        assertEquals(Optional.of("v1"), cached);
+        assertEquals(Optional.of("v2"), reloaded);
+    }
+
+    @Test
+    void staleEntryIsServedWhileOneBackgroundLoadRevalidatesIt() {
+        // Given
+        SingleFlightCache<Long, String> cache = cache(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        cache.get(1L, key -> Optional.of("old"));
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // When
+        Optional<String> first = cache.get(1L, key -> Optional.of("new"));
+        Optional<String> second = cache.get(1L, key -> Optional.of("new"));
+        revalidations.forEach(Runnable::run);
+
+        // Then
+        assertEquals(Optional.of("old"), first);
+        assertEquals(Optional.of("old"), second);
+        assertEquals(1, revalidations.size());
+        assertEquals(Optional.of("new"), cache.get(1L, key -> Optional.of("unused")));
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsNotCached() {
+        // Given
+        SingleFlightCache<Long, String> cache = cache(Duration.ofMinutes(1), Duration.ZERO);
+
+        // When
+        Optional<String> loaded = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return Optional.of("before-change");
+        });
+
+        // Then
+        assertEquals(Optional.of("before-change"), loaded);
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    void emptyResultIsNotCached() {
+        // Given
+        SingleFlightCache<Long, String> cache = cache(Duration.ofMinutes(1), Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,284 @@
+package com.eventsphere.event.cache;
+
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UpcomingEventWindowTest {
+
+    private static final Instant START = Instant.parse("2026-06-01T10:00:00Z");
+
+    private EventRepository eventRepository;
+    private MutableClock clock;
+    private UpcomingEventWindow window;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        clock = new MutableClock(START);
+        window = new UpcomingEventWindow(eventRepository, clock, true, Duration.ofDays(7), new SimpleMeterRegistry());
+        when(eventRepository.findCategoryIdsStartingFrom(any())).thenReturn(Set.of());
+    }
+
+    private static EventView view(long id, long categoryId, Duration fromStart) {
+        Timestamp startsAt = Timestamp.from(START.plus(fromStart));
+        return new EventView(id, 1L, "Event " + id, null, null, null, null, null, startsAt, null, startsAt, 1L,
+                categoryId, "Category " + categoryId, null, null);
+    }
+
+    private static List<Long> ids(Slice<EventView> slice) {
+        return slice.getContent().stream().map(EventView::getId).toList();
+    }
+
+    @Test
+    void refreshLoadsWindowAndServesPagesFromMemory() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any())).thenReturn(List.of(
+                view(1L, 1L, Duration.ofHours(1)), view(2L, 1L, Duration.ofHours(2)),
+                view(3L, 1L, Duration.ofHours(3)), view(4L, 2L, Duration.ofHours(1))));
+        window.refresh();
+
+        // When
+        Slice<EventView> first = window.findUpcoming(1L, PageRequest.of(0, 2)).orElseThrow();
+        Slice<EventView> second = window.findUpcoming(1L, PageRequest.of(1, 2)).orElseThrow();
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertTrue(first.hasNext());
+        assertEquals(List.of(3L), ids(second));
+        assertFalse(second.hasNext());
+        verify(eventRepository, times(1)).findViewsStartingBetween(any(), any());
+    }
+
+    @Test
+    void lastPageFallsBackWhenCategoryHasEventsBeyondHorizon() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1))));
+        when(eventRepository.findCategoryIdsStartingFrom(any())).thenReturn(Set.of(1L));
+        window.refresh();
+
+        // When and Then
+        assertEquals(Optional.empty(), window.findUpcoming(1L, PageRequest.of(0, 2)));
+        assertTrue(window.findUpcoming(1L, PageRequest.of(0, 1)).isPresent());
+    }
+
+    @Test
+    void notLoadedWindowFallsBack() {
+        // When and Then
+        assertEquals(Optional.empty(), window.findUpcoming(1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void refreshRollsForwardEvictingStartedEvents() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1)), view(2L, 1L, Duration.ofHours(3))))
+                .thenReturn(List.of(view(3L, 1L, Duration.ofDays(7).plusHours(1))));
+        window.refresh();
+        clock.advance(Duration.ofHours(2));
+
+        // When
+        window.refresh();
+
+        // Then
+        Slice<EventView> slice = window.findUpcoming(1L, PageRequest.of(0, 10)).orElseThrow();
+        assertEquals(List.of(2L, 3L), ids(slice));
+        verify(eventRepository).findViewsStartingBetween(Timestamp.from(START.plus(Duration.ofDays(7))),
+                Timestamp.from(START.plus(Duration.ofDays(7).plusHours(2))));
+    }
+
+    @Test
+    void committedChangesAreApplied() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1)), view(2L, 1L, Duration.ofHours(2))));
+        window.refresh();
+
+        // When
+        window.onEventChange(EventChange.created(view(3L, 1L, Duration.ofMinutes(30))));
+        window.onEventChange(EventChange.deleted(view(2L, 1L, Duration.ofHours(2))));
+        window.onEventChange(
+                EventChange.updated(view(1L, 2L, Duration.ofHours(4)), EnumSet.of(EventField.CATEGORY), 1L));
+
+        // Then
+        assertEquals(List.of(3L), ids(window.findUpcoming(1L, PageRequest.of(0, 10)).orElseThrow()));
+        assertEquals(List.of(1L), ids(window.findUpcoming(2L, PageRequest.of(0, 10)).orElseThrow()));
+    }
+
+    @Test
+    void changeBeyondHorizonMarksCategoryForFallback() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1))));
+        window.refresh();
+
+        // When
+        window.onEventChange(EventChange.created(view(2L, 1L, Duration.ofDays(30))));
+
+        // Then
+        assertEquals(Optional.empty(), window.findUpcoming(1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void reconcileRebuildsWindowFromDatabase() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1))))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1)), view(2L, 1L, Duration.ofHours(2))));
+        window.refresh();
+
+        // When
+        int differences = window.reconcile();
+
+        // Then
+        assertEquals(1, differences);
+        assertEquals(List.of(1L, 2L), ids(window.findUpcoming(1L, PageRequest.of(0, 10)).orElseThrow()));
+    }
+
+    @Test
+    void reconcileKeepsMatchingWindow() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1))));
+        window.refresh();
+
+        // When and Then
+        assertEquals(0, window.reconcile());
+    }
+
+    @Test
+    void renamedCategoryFallsBackUntilRefreshReloadsIt() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1)), view(2L, 2L, Duration.ofHours(1))))
+                .thenReturn(List.of());
+        EventView renamed = new EventView(1L, 1L, "Event 1", null, null, null, null, null,
+                Timestamp.from(START.plus(Duration.ofHours(1))), null, null, 1L, 1L, "Renamed", null, null);
+        when(eventRepository.findViewsByCategoryStartingBetween(eq(1L), any(), any())).thenReturn(List.of(renamed));
+        window.refresh();
+
+        // When
+        window.onCategoryChange(CategoryChange.updated(1L));
+
+        // Then
+        assertEquals(Optional.empty(), window.findUpcoming(1L, PageRequest.of(0, 10)));
+        assertTrue(window.findUpcoming(2L, PageRequest.of(0, 10)).isPresent());
+
+        window.refresh();
+
+        Slice<EventView> slice = window.findUpcoming(1L, PageRequest.of(0, 10)).orElseThrow();
+        assertEquals("Renamed", slice.getContent().get(0).getCategory().getName());
+        verify(eventRepository).findViewsByCategoryStartingBetween(1L, Timestamp.from(START),
+                Timestamp.from(START.plus(Duration.ofDays(7))));
+    }
+
+    @Test
+    void reconcileDetectsRenamedCategory() {
+        // Given
+        EventView renamed = new EventView(1L, 1L, "Event 1", null, null, null, null, null,
+                Timestamp.from(START.plus(Duration.ofHours(1))), null,
+                Timestamp.from(START.plus(Duration.ofHours(1))), 1L, 1L, "Renamed", null, null);
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1))))
+                .thenReturn(List.of(renamed));
+        window.refresh();
+
+        // When
+        int differences = window.reconcile();
+
+        // Then
+        assertEquals(1, differences);
+        Slice<EventView> slice = window.findUpcoming(1L, PageRequest.of(0, 10)).orElseThrow();
+        assertEquals("Renamed", slice.getContent().get(0).getCategory().getName());
+    }
+
+    @Test
+    void importFallsBackUntilRefreshReloadsWholeWindow() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any()))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1))))
+                .thenReturn(List.of(view(1L, 1L, Duration.ofHours(1)), view(2L, 2L, Duration.ofHours(2))));
+        window.refresh();
+
+        // When
+        window.onEventsImported(new EventsImported(1));
+
+        // Then
+        assertEquals(Optional.empty(), window.findUpcoming(1L, PageRequest.of(0, 10)));
+        assertEquals(Optional.empty(), window.findUpcoming(2L, PageRequest.of(0, 10)));
+
+        window.refresh();
+
+        assertEquals(List.of(2L), ids(window.findUpcoming(2L, PageRequest.of(0, 10)).orElseThrow()));
+        verify(eventRepository, times(2)).findViewsStartingBetween(Timestamp.from(START),
+                Timestamp.from(START.plus(Duration.ofDays(7))));
+    }
+
+    @Test
+    void changeCommittedDuringLoadIsReplayedOntoIt() {
+        // Given
+        when(eventRepository.findViewsStartingBetween(any(), any())).thenAnswer(invocation -> {
+            window.onEventChange(EventChange.created(view(2L, 1L, Duration.ofHours(2))));
+            return List.of(view(1L, 1L, Duration.ofHours(1)));
+        });
+
+        // When
+        window.refresh();
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(window.findUpcoming(1L, PageRequest.of(0, 10)).orElseThrow()));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.eventsphere.event.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private DataSource target;
+    private Connection connection;
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(10));
+    }
+
+    @Test
+    void getConnectionBeyondLimitTimesOut() throws SQLException {
+        // Given
+        dataSource.getConnection();
+
+        // When and Then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void closeReleasesPermitOnce() throws SQLException {
+        // Given
+        Connection limited = dataSource.getConnection();
+
+        // When
+        limited.close();
+        limited.close();
+
+        // Then
+        verify(connection).close();
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void failedGetConnectionReleasesPermit() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        // Then
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,37 @@
+package com.eventsphere.event.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReplicaRoutingConfig.class, VirtualThreadConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "eventsphere.datasource.routing.enabled=true",
+                    "eventsphere.threads.virtual.enabled=true",
+                    "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1"
+            );
+
+    @Test
+    void routingWithVirtualThreadsLimitsOnlyTheApplicationDataSource() {
+        // When and Then
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertInstanceOf(ConcurrencyLimitingDataSource.class, context.getBean(DataSource.class));
+            assertInstanceOf(HikariDataSource.class, context.getBean("primaryDataSource"));
+            assertInstanceOf(ReplicaRoutingDataSource.class, context.getBean("replicaRoutingDataSource"));
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package com.eventsphere.event.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private DataSource replicaDataSource;
+    private ResultSet lagResult;
+    private ReplicaRoutingDataSource.Replica replica;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        replicaDataSource = mock(DataSource.class);
+        replicaConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        lagResult = mock(ResultSet.class);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lagResult);
+        when(lagResult.next()).thenReturn(true);
+
+        replica = new ReplicaRoutingDataSource.Replica("replica-0", replicaDataSource);
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5),
+                Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.forcePrimary(false);
+    }
+
+    @Test
+    void readOnlyTransactionUsesHealthyReplica() throws SQLException {
+        // Given
+        when(lagResult.getDouble(1)).thenReturn(0.5);
+        dataSource.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertTrue(replica.isHealthy());
+        assertSame(replicaConnection, connection);
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() throws SQLException {
+        // Given
+        when(lagResult.getDouble(1)).thenReturn(0.0);
+        dataSource.checkLag();
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() throws SQLException {
+        // Given
+        when(lagResult.getDouble(1)).thenReturn(30.0);
+        dataSource.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertFalse(replica.isHealthy());
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    void forcedPrimaryReadsFromPrimary() throws SQLException {
+        // Given
+        when(lagResult.getDouble(1)).thenReturn(0.0);
+        dataSource.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.forcePrimary(true);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() throws SQLException {
+        // Given
+        when(lagResult.getDouble(1)).thenReturn(0.0);
+        dataSource.checkLag();
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        assertFalse(replica.isHealthy());
+    }
+}
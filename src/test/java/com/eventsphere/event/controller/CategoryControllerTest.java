@@ -1,15 +1,20 @@
 package com.eventsphere.event.controller;
 
+import com.eventsphere.event.config.BinaryFormatsConfig;
 import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.dto.CategoryDto;
+import com.eventsphere.event.model.dto.CategoryWithEventsDto;
 import com.eventsphere.event.service.CategoryService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,6 +37,8 @@ class CategoryControllerTest {
         Category category1 = new Category();
         category1.setId(1L);
         category1.setName("Category 1");
+        category1.setEventCount(3L);
+        category1.setUpcomingCount(1L);
 
         Category category2 = new Category();
         category2.setId(2L);
@@ -39,7 +46,7 @@ class CategoryControllerTest {
 
         List<Category> categories = Arrays.asList(category1, category2);
 
-        when(categoryService.getAll()).thenReturn(categories);
+        when(categoryService.getAllWithEventCounts()).thenReturn(categories);
 
         // When/Then
         mockMvc.perform(get("/v1/categories"))
@@ -50,15 +57,84 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$._embedded.categoryList.length()").value(categories.size()))
                 .andExpect(jsonPath("$._embedded.categoryList[0].id").value(category1.getId()))
                 .andExpect(jsonPath("$._embedded.categoryList[0].name").value(category1.getName()))
+                .andExpect(jsonPath("$._embedded.categoryList[0].eventCount").value(3))
+                .andExpect(jsonPath("$._embedded.categoryList[0].upcomingCount").value(1))
                 .andExpect(jsonPath("$._embedded.categoryList[0]._links.get-category.href").value("http://localhost/v1/categories/1"))
                 .andExpect(jsonPath("$._embedded.categoryList[1].id").value(category2.getId()))
                 .andExpect(jsonPath("$._embedded.categoryList[1].name").value(category2.getName()))
                 .andExpect(jsonPath("$._embedded.categoryList[1]._links.get-category.href").value("http://localhost/v1/categories/2"));
 
-        verify(categoryService).getAll();
+        verify(categoryService).getAllWithEventCounts();
         verifyNoMoreInteractions(categoryService);
     }
 
+    @Test
+    void getAllCategoriesUnchangedReturnsNotModified() throws Exception {
+        // Given
+        Category category = new Category(1L, "Category 1");
+        category.setUpdatedAt(Timestamp.valueOf("2023-06-15 19:00:00"));
+        when(categoryService.getAllWithEventCounts()).thenReturn(List.of(category));
+
+        String etag = mockMvc.perform(get("/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When/Then
+        mockMvc.perform(get("/v1/categories").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getCategoryUnchangedReturnsNotModified() throws Exception {
+        // Given
+        Category category = new Category(1L, "Category 1");
+        category.setUpdatedAt(Timestamp.valueOf("2023-06-15 19:00:00"));
+        when(categoryService.get(1L)).thenReturn(category);
+
+        // When/Then
+        mockMvc.perform(get("/v1/categories/1")
+                        .header("If-None-Match", "\"category-1-" + category.getUpdatedAt().getTime() + "+json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    void getCategoryAsSmileDoesNotMatchJsonETag() throws Exception {
+        // Given
+        Category category = new Category(1L, "Category 1");
+        category.setUpdatedAt(Timestamp.valueOf("2023-06-15 19:00:00"));
+        when(categoryService.get(1L)).thenReturn(category);
+        String etag = "\"category-1-" + category.getUpdatedAt().getTime();
+
+        // When/Then
+        mockMvc.perform(get("/v1/categories/1")
+                        .accept(BinaryFormatsConfig.APPLICATION_SMILE)
+                        .header("If-None-Match", etag + "+json\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryFormatsConfig.APPLICATION_SMILE))
+                .andExpect(header().string("ETag", etag + "+smile\""))
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    void getAllCategoriesETagDependsOnNegotiatedFormat() throws Exception {
+        // Given
+        Category category = new Category(1L, "Category 1");
+        when(categoryService.getAllWithEventCounts()).thenReturn(List.of(category));
+
+        String etag = mockMvc.perform(get("/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When/Then
+        mockMvc.perform(get("/v1/categories").accept(MediaType.APPLICATION_CBOR).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag.replace("+json\"", "+cbor\"")));
+    }
+
     @Test
     void getCategoryValidIdReturnsCategoryWithLinks() throws Exception {
         // Given
@@ -88,15 +164,23 @@ class CategoryControllerTest {
         category.setId(1L);
         category.setName("Category 1");
 
-        when(categoryService.getWithEvents(1L, 0, 10, false)).thenReturn(category);
+        CategoryWithEventsDto categoryWithEvents = new CategoryWithEventsDto(category,
+                new SliceImpl<>(List.of(), PageRequest.of(0, 10), true), null);
+
+        when(categoryService.getWithEvents(1L, 0, 10, false, false)).thenReturn(categoryWithEvents);
 
         // When/Then
         mockMvc.perform(get("/v1/categories/1/events"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(category.getId()))
-                .andExpect(jsonPath("$.name").value(category.getName()));
+                .andExpect(jsonPath("$.name").value(category.getName()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalEvents").doesNotExist())
+                .andExpect(jsonPath("$._links.next.href").value(
+                        "http://localhost/v1/categories/1/events?page=1&size=10&upcoming=false&includeTotal=false"))
+                .andExpect(jsonPath("$._links.prev").doesNotExist());
 
-        verify(categoryService).getWithEvents(1L, 0, 10, false);
+        verify(categoryService).getWithEvents(1L, 0, 10, false, false);
         verifyNoMoreInteractions(categoryService);
     }
 
@@ -0,0 +1,180 @@
+package com.eventsphere.event.controller;
+
+import com.eventsphere.event.cache.CategoryCache;
+import com.eventsphere.event.cache.EventCountCache;
+import com.eventsphere.event.model.EventsImported;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the exact number of SQL statements each endpoint executes, counted by the
+ * {@code SqlStatementCounter} of the running application from the start of the request to the end of its
+ * serialization, so N+1 regressions in services, adapters or response rendering fail the build. Runs the
+ * whole application against an embedded PostgreSQL migrated by Flyway and its sample data.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.schemas=event_service_schema",
+        "spring.flyway.default-schema=event_service_schema",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.default_schema=event_service_schema",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureMockMvc
+class EndpointStatementCountTest {
+
+    private static final String METRIC_NAME = "http.server.requests.sql.statements";
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private EventCountCache eventCountCache;
+
+    private Long categoryId;
+
+    private Long eventId;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=event_service_schema");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // The sample events are past, so the patched one must be upcoming to pass the entity validation
+        categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM category", Long.class);
+        eventId = jdbcTemplate.queryForObject("INSERT INTO \"event\" " +
+                "(creator_id, category_id, title, location, date, time, starts_at) " +
+                "VALUES (1, ?, 'Counted Event', 'City Concert Hall', CURRENT_DATE + 30, " +
+                "TIME WITH TIME ZONE '19:00:00+00', CURRENT_DATE + 30 + TIME WITH TIME ZONE '19:00:00+00') " +
+                "RETURNING id", Long.class, categoryId);
+
+        // Every test starts with cold category and count caches
+        categoryCache.invalidate();
+        eventCountCache.onEventsImported(new EventsImported(0));
+    }
+
+    @Test
+    void getAllEventsIsOneStatement() throws Exception {
+        // When
+        long statements = statements(get("/v1/events").param("limit", "20"), "GET", "/v1/events");
+
+        // Then
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void getAllCategoriesIsCategoriesAndGroupedCounts() throws Exception {
+        // When
+        long cold = statements(get("/v1/categories"), "GET", "/v1/categories");
+        long cached = statements(get("/v1/categories"), "GET", "/v1/categories");
+
+        // Then
+        assertEquals(2, cold);
+        assertEquals(0, cached);
+    }
+
+    @Test
+    void getCategoryEventsIsCategoryAndOneSlice() throws Exception {
+        // When
+        long cold = statements(get("/v1/categories/{id}/events", categoryId), "GET", "/v1/categories/{id}/events");
+        long cached = statements(get("/v1/categories/{id}/events", categoryId), "GET", "/v1/categories/{id}/events");
+
+        // Then
+        assertEquals(2, cold);
+        assertEquals(1, cached);
+    }
+
+    @Test
+    void getUpcomingCategoryEventsIsCategoryAndOneSlice() throws Exception {
+        // When
+        long cold = statements(get("/v1/categories/{id}/events", categoryId).param("upcoming", "true"),
+                "GET", "/v1/categories/{id}/events");
+        long cached = statements(get("/v1/categories/{id}/events", categoryId).param("upcoming", "true"),
+                "GET", "/v1/categories/{id}/events");
+
+        // Then
+        assertEquals(2, cold);
+        assertEquals(1, cached);
+    }
+
+    @Test
+    void patchEventIsSelectUpdateAndOutboxInsert() throws Exception {
+        // Given
+        statements(patchTitle("Warm-up title"), "PATCH", "/v1/events/{id}");
+
+        // When
+        long statements = statements(patchTitle("Renamed event"), "PATCH", "/v1/events/{id}");
+
+        // Then
+        assertEquals(3, statements);
+    }
+
+    private MockHttpServletRequestBuilder patchTitle(String title) {
+        return patch("/v1/events/{id}", eventId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"" + title + "\"}");
+    }
+
+    /**
+     * Perform a request and get the number of statements the application recorded for it.
+     */
+    private long statements(MockHttpServletRequestBuilder request, String method, String uri) throws Exception {
+        DistributionSummary before = summary(method, uri);
+        long countBefore = before != null ? before.count() : 0;
+        double totalBefore = before != null ? before.totalAmount() : 0;
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        DistributionSummary after = summary(method, uri);
+        assertEquals(countBefore + 1, after.count());
+        return Math.round(after.totalAmount() - totalBefore);
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return meterRegistry.find(METRIC_NAME).tag("method", method).tag("uri", uri).summary();
+    }
+}
@@ -1,11 +1,25 @@
 package com.eventsphere.event.controller;
 
+import com.eventsphere.event.config.BinaryFormatsConfig;
 import com.eventsphere.event.exception.EventNotFoundException;
+import com.eventsphere.event.exception.PreconditionFailedException;
 import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.EventBatchItemResultDto;
 import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.EventImportResultDto;
+import com.eventsphere.event.model.dto.EventSearchPage;
 import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.service.ChangeFeedService;
+import com.eventsphere.event.service.EventBatchService;
+import com.eventsphere.event.service.EventExportService;
+import com.eventsphere.event.service.EventImportService;
+import com.eventsphere.event.service.EventSearchService;
 import com.eventsphere.event.service.EventService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonPrimitive;
@@ -14,20 +28,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.sql.Date;
 import java.sql.Time;
+import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +65,21 @@ class EventControllerTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventExportService eventExportService;
+
+    @MockBean
+    private EventBatchService eventBatchService;
+
+    @MockBean
+    private EventImportService eventImportService;
+
+    @MockBean
+    private EventSearchService eventSearchService;
+
+    @MockBean
+    private ChangeFeedService changeFeedService;
+
     private Gson gson;
 
     @BeforeEach
@@ -59,8 +99,8 @@ class EventControllerTest {
     @Test
     void getAllEventsTest() throws Exception {
         // Given
-        List<Event> events = new ArrayList<>();
-        events.add(
+        List<EventView> events = new ArrayList<>();
+        events.add(EventView.of(
                 Event.builder()
                         .id(1L)
                         .creatorId(1L)
@@ -68,14 +108,17 @@ class EventControllerTest {
                         .description("Event description")
                         .imageUrl("Event image-url")
                         .location("Sample Location")
+                        .date(Date.valueOf("2023-06-15"))
+                        .time(Time.valueOf("19:00:00"))
                         .category(new Category(1L, "Test Category"))
                         .build()
-        );
-        when(eventService.getAll()).thenReturn(events);
+        ));
+        when(eventService.getPage(null, 20)).thenReturn(new SliceImpl<>(events, PageRequest.of(0, 20), true));
 
         // When and Then
         mockMvc.perform(MockMvcRequestBuilders.get("/v1/events"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.next.href").exists())
                 .andExpect(jsonPath("$._embedded.eventList").isArray())
                 .andExpect(jsonPath("$._embedded.eventList[0].id").value(1L))
                 .andExpect(jsonPath("$._embedded.eventList[0].creatorId").value(1L))
@@ -86,6 +129,83 @@ class EventControllerTest {
                 .andExpect(jsonPath("$._embedded.eventList[0].category.name").value("Test Category"));
     }
 
+    @Test
+    void getLastPageOfEventsHasNoNextLinkTest() throws Exception {
+        // Given
+        when(eventService.getPage("cursor", 5)).thenReturn(new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, 5), false));
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events")
+                        .param("after", "cursor")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+    }
+
+    @Test
+    void searchEventsTest() throws Exception {
+        // Given
+        Event event = Event.builder().id(3L).title("Jazz Night").category(new Category(1L, "Music")).build();
+        when(eventSearchService.search("jazz", null, 20)).thenReturn(new EventSearchPage(List.of(EventView.of(event)), "next-cursor"));
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/search").param("q", "jazz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.eventList[0].title").value("Jazz Night"))
+                .andExpect(jsonPath("$._links.next.href").value(containsString("after=next-cursor")));
+    }
+
+    @Test
+    void exportEventsAsCsvTest() throws Exception {
+        // Given
+        when(eventExportService.getTimeout()).thenReturn(Duration.ofHours(2));
+
+        // When
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andReturn();
+
+        // Then
+        assertEquals(Duration.ofHours(2).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void importEventsFromCsvTest() throws Exception {
+        // Given
+        when(eventImportService.importCsv(any())).thenReturn(new EventImportResultDto(1, 1, List.of(
+                EventBatchItemResultDto.rejected(2, Map.of("category", List.of("Can't find the category"))))));
+        String csv = """
+                creatorId,title,date,time,category
+                1,Jazz Night,2123-06-15,19:00:00,Music
+                1,Jazz Night,2123-06-15,19:00:00,Unknown
+                """;
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/events/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].index").value(2));
+        verify(eventImportService).importCsv(any());
+    }
+
+    @Test
+    void subscribeToChangesTest() throws Exception {
+        // Given
+        when(changeFeedService.subscribe(3L, "41")).thenReturn(new SseEmitter());
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/changes")
+                        .param("category", "3")
+                        .header("Last-Event-ID", "41")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        verify(changeFeedService).subscribe(3L, "41");
+        verifyNoInteractions(eventService);
+    }
 
     @Test
     void getExistingEventTest() throws Exception {
@@ -101,7 +221,7 @@ class EventControllerTest {
                 .time(Time.valueOf("19:00:00"))
                 .category(new Category(1L, "Test Category"))
                 .build();
-        when(eventService.get(1L)).thenReturn(event);
+        when(eventService.getView(1L)).thenReturn(EventView.of(event));
 
         // When and Then
         mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/1")
@@ -118,6 +238,98 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.category.name").value("Test Category"));
     }
 
+    @Test
+    void getEventAsCborTest() throws Exception {
+        // Given
+        Event event = Event.builder().id(1L).title("Event Title").category(new Category(1L, "Test Category")).build();
+        when(eventService.getView(1L)).thenReturn(EventView.of(event));
+
+        // When
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/1")
+                        .accept(MediaType.parseMediaType("application/cbor")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode json = new CBORMapper().readTree(body);
+        assertEquals("Event Title", json.get("title").asText());
+        assertEquals("Test Category", json.get("category").get("name").asText());
+        assertTrue(json.get("_links").has("self"));
+    }
+
+    @Test
+    void getEventAsSmileTest() throws Exception {
+        // Given
+        Event event = Event.builder().id(1L).title("Event Title").build();
+        when(eventService.getView(1L)).thenReturn(EventView.of(event));
+
+        // When
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/1")
+                        .accept(BinaryFormatsConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryFormatsConfig.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertEquals("Event Title", new SmileMapper().readTree(body).get("title").asText());
+    }
+
+    @Test
+    void getUnchangedEventReturnsNotModifiedWithoutLoadingIt() throws Exception {
+        // Given
+        Event event = Event.builder().id(1L).updatedAt(Timestamp.valueOf("2023-06-15 19:00:00")).version(3L).build();
+        when(eventService.findView(1L)).thenReturn(Optional.of(EventView.of(event)));
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/1")
+                        .header("If-None-Match", "\"event-1-3-0-0+json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"event-1-3-0-0+json\""))
+                .andExpect(header().string("Vary", "Accept"));
+        verify(eventService, never()).getView(1L);
+    }
+
+    @Test
+    void getChangedEventReturnsBodyWithETag() throws Exception {
+        // Given
+        Timestamp updatedAt = Timestamp.valueOf("2023-06-15 19:00:00");
+        Event event = Event.builder()
+                .id(1L)
+                .title("Event Title")
+                .updatedAt(updatedAt)
+                .version(3L)
+                .category(new Category(1L, "Test Category"))
+                .build();
+        when(eventService.findView(1L)).thenReturn(Optional.of(EventView.of(event)));
+        when(eventService.getView(1L)).thenReturn(EventView.of(event));
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/1")
+                        .header("If-None-Match", "\"event-1-2-1-0+json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"event-1-3-1-0+json\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(jsonPath("$.title").value("Event Title"));
+    }
+
+    @Test
+    void getEventAsCborDoesNotMatchJsonETag() throws Exception {
+        // Given
+        Event event = Event.builder().id(1L).title("Event Title").version(3L).build();
+        when(eventService.findView(1L)).thenReturn(Optional.of(EventView.of(event)));
+        when(eventService.getView(1L)).thenReturn(EventView.of(event));
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events/1")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", "\"event-1-3-0-0+json\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"event-1-3-0-0+cbor\""))
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
     @Test
     void createValidEventTest() throws Exception {
         // Given
@@ -209,7 +421,8 @@ class EventControllerTest {
                 .category(new Category(1L, "Music"))
                 .build();
 
-        when(eventService.update(Mockito.eq(1L), Mockito.any(EventUpdateDto.class))).thenReturn(event);
+        when(eventService.update(Mockito.eq(1L), Mockito.any(EventUpdateDto.class), Mockito.isNull()))
+                .thenReturn(EventView.of(event));
 
         // When and Then
         mockMvc.perform(MockMvcRequestBuilders
@@ -219,6 +432,23 @@ class EventControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void staleIfMatchUpdateEventTest() throws Exception {
+        // Given
+        EventUpdateDto eventUpdateDto = new EventUpdateDto();
+        eventUpdateDto.setTitle("updateTitle");
+        when(eventService.update(Mockito.eq(1L), Mockito.any(EventUpdateDto.class), Mockito.eq("\"event-1-0\"")))
+                .thenThrow(new PreconditionFailedException("The event 1 was modified since it was read"));
+
+        // When and Then
+        mockMvc.perform(MockMvcRequestBuilders
+                        .patch("/v1/events/1")
+                        .header("If-Match", "\"event-1-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(gson.toJson(eventUpdateDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void invalidUpdateEventTest() throws Exception {
         // Given
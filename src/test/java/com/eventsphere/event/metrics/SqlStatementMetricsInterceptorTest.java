@@ -0,0 +1,61 @@
+package com.eventsphere.event.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SqlStatementMetricsInterceptorTest {
+
+    private SqlStatementCounter counter;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SqlStatementMetricsInterceptor(counter, meterRegistry);
+    }
+
+    @Test
+    void recordsStatementsPerEndpoint() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/events/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/events/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, null);
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsInterceptor.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/v1/events/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    @Test
+    void ignoresStatementsOutsideRequests() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/events");
+
+        // When
+        counter.inspect("select 1");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // Then
+        assertNull(meterRegistry.find(SqlStatementMetricsInterceptor.METRIC_NAME).summary());
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventsphere.event.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetTime;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EventTest {
+
+    @Test
+    void syncStartsAtCombinesDateAndTime() {
+        inTimeZone("UTC", () -> {
+            // Given
+            Event event = Event.builder()
+                    .date(Date.valueOf("2023-06-15"))
+                    .time(Time.valueOf("19:30:00"))
+                    .build();
+
+            // When
+            event.syncStartsAt();
+
+            // Then
+            assertEquals(Instant.parse("2023-06-15T19:30:00Z"), event.getStartsAt().toInstant());
+        });
+    }
+
+    @Test
+    void syncStartsAtUsesTheStoredOffsetOfTheTime() {
+        inTimeZone("Europe/Berlin", () -> {
+            // Given
+            Event event = Event.builder()
+                    .date(Date.valueOf("2023-06-15"))
+                    .time(Time.valueOf("19:30:00"))
+                    .build();
+
+            // When
+            event.syncStartsAt();
+
+            // Then
+            assertEquals(OffsetTime.parse("19:30:00+01:00"), Event.offsetTime(event.getTime()));
+            assertEquals(Instant.parse("2023-06-15T18:30:00Z"), event.getStartsAt().toInstant());
+        });
+    }
+
+    @Test
+    void syncStartsAtWithoutTimeClearsStart() {
+        // Given
+        Event event = Event.builder()
+                .date(Date.valueOf("2023-06-15"))
+                .startsAt(Timestamp.valueOf("2023-06-15 19:30:00"))
+                .build();
+
+        // When
+        event.syncStartsAt();
+
+        // Then
+        assertNull(event.getStartsAt());
+    }
+
+    private static void inTimeZone(String zone, Runnable test) {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(zone));
+        try {
+            test.run();
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+}
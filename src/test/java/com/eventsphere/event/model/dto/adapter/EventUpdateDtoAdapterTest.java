@@ -2,6 +2,7 @@ package com.eventsphere.event.model.dto.adapter;
 
 import com.eventsphere.event.model.Category;
 import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventField;
 import com.eventsphere.event.model.dto.EventUpdateDto;
 import com.eventsphere.event.service.CategoryService;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,8 +10,12 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.Date;
 import java.sql.Time;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class EventUpdateDtoAdapterTest {
@@ -52,22 +57,65 @@ class EventUpdateDtoAdapterTest {
         category.setName("Test Category");
 
         when(categoryService.get("Test Category")).thenReturn(category);
+        when(categoryService.getReference(2L)).thenReturn(category);
 
         // When
-        Event updatedEvent = adapter.updateEventFromDto(event, dto);
+        Set<EventField> changes = adapter.updateEventFromDto(event, dto);
 
         // Then
-        assertEquals(event.getId(), updatedEvent.getId());
-        assertEquals(event.getCreatorId(), updatedEvent.getCreatorId());
-        assertEquals(dto.getTitle(), updatedEvent.getTitle());
-        assertEquals(dto.getDescription(), updatedEvent.getDescription());
-        assertEquals(dto.getImageUrl(), updatedEvent.getImageUrl());
-        assertEquals(dto.getLocation(), updatedEvent.getLocation());
-        assertEquals(dto.getDate(), updatedEvent.getDate());
-        assertEquals(dto.getTime(), updatedEvent.getTime());
-        assertEquals(category, updatedEvent.getCategory());
+        assertEquals(1L, event.getId());
+        assertEquals(1L, event.getCreatorId());
+        assertEquals(dto.getTitle(), event.getTitle());
+        assertEquals(dto.getDescription(), event.getDescription());
+        assertEquals(dto.getImageUrl(), event.getImageUrl());
+        assertEquals(dto.getLocation(), event.getLocation());
+        assertEquals(dto.getDate(), event.getDate());
+        assertEquals(dto.getTime(), event.getTime());
+        assertSame(category, event.getCategory());
+        assertEquals(EnumSet.of(EventField.TITLE, EventField.DESCRIPTION, EventField.IMAGE_URL,
+                EventField.LOCATION, EventField.TIME, EventField.CATEGORY), changes);
 
         verify(categoryService).get("Test Category");
+        verify(categoryService).getReference(2L);
         verifyNoMoreInteractions(categoryService);
     }
+
+    @Test
+    void updateEventFromDto_TitleOnly_SkipsCategoryLookup() {
+        // Given
+        Category category = new Category(2L, "Music");
+        Event event = Event.builder().id(1L).title("Old Title").location("Old Location").category(category).build();
+
+        EventUpdateDto dto = new EventUpdateDto();
+        dto.setTitle("New Title");
+
+        // When
+        Set<EventField> changes = adapter.updateEventFromDto(event, dto);
+
+        // Then
+        assertEquals(EnumSet.of(EventField.TITLE), changes);
+        assertEquals("New Title", event.getTitle());
+        assertEquals("Old Location", event.getLocation());
+        assertSame(category, event.getCategory());
+        verifyNoInteractions(categoryService);
+    }
+
+    @Test
+    void updateEventFromDto_SameCategory_KeepsReference() {
+        // Given
+        Category category = new Category(2L, "Music");
+        Event event = Event.builder().id(1L).category(category).build();
+
+        EventUpdateDto dto = new EventUpdateDto();
+        dto.setCategory("Music");
+        when(categoryService.get("Music")).thenReturn(new Category(2L, "Music"));
+
+        // When
+        Set<EventField> changes = adapter.updateEventFromDto(event, dto);
+
+        // Then
+        assertTrue(changes.isEmpty());
+        assertSame(category, event.getCategory());
+        verify(categoryService, never()).getReference(any());
+    }
 }
@@ -0,0 +1,111 @@
+package com.eventsphere.event.outbox;
+
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.OutboxMessage;
+import com.eventsphere.event.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T10:00:00Z");
+
+    private OutboxMessageRepository outboxMessageRepository;
+    private PlatformTransactionManager transactionManager;
+    private InMemoryOutboxSink sink;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository = mock(OutboxMessageRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        sink = new InMemoryOutboxSink(100);
+        meterRegistry = new SimpleMeterRegistry();
+        when(outboxMessageRepository.findFirstByOrderByCreatedAtAscIdAsc()).thenReturn(Optional.empty());
+    }
+
+    private OutboxRelay relay(OutboxSink outboxSink, int batchSize) {
+        return new OutboxRelay(outboxMessageRepository, outboxSink, new TransactionTemplate(transactionManager),
+                Clock.fixed(NOW, ZoneOffset.UTC), batchSize, 10, meterRegistry);
+    }
+
+    private static List<OutboxMessage> messages(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> OutboxMessage.builder().id(id).eventId(id).changeType(ChangeType.CREATED)
+                        .createdAt(Timestamp.from(NOW.minusSeconds(2))).build())
+                .toList();
+    }
+
+    @Test
+    void relayDeliversAndDeletesBatchesUntilDrained() {
+        // Given
+        when(outboxMessageRepository.claimBatch(2)).thenReturn(messages(1, 2), messages(3, 3));
+
+        // When
+        int delivered = relay(sink, 2).relay();
+
+        // Then
+        assertEquals(3, delivered);
+        assertEquals(List.of(1L, 2L, 3L), sink.getMessages().stream().map(OutboxMessage::getId).toList());
+        verify(outboxMessageRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxMessageRepository).deleteByIdIn(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3, meterRegistry.counter("events.outbox.delivered").count());
+        assertEquals(2.0, meterRegistry.timer("events.outbox.delivery.lag").max(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedDeliveryRollsBackAndKeepsBatch() {
+        // Given
+        when(outboxMessageRepository.claimBatch(anyInt())).thenReturn(messages(1, 2));
+        when(outboxMessageRepository.findFirstByOrderByCreatedAtAscIdAsc())
+                .thenReturn(Optional.of(messages(1, 1).get(0)));
+        OutboxSink failingSink = batch -> {
+            throw new IOException("Broker unavailable");
+        };
+
+        // When
+        int delivered = relay(failingSink, 2).relay();
+
+        // Then
+        assertEquals(0, delivered);
+        verify(outboxMessageRepository, never()).deleteByIdIn(any());
+        verify(transactionManager).rollback(any());
+        assertEquals(1, meterRegistry.counter("events.outbox.failures").count());
+        assertEquals(2.0, meterRegistry.get("events.outbox.lag").gauge().value());
+    }
+
+    @Test
+    void emptyOutboxDeliversNothing() {
+        // Given
+        when(outboxMessageRepository.claimBatch(anyInt())).thenReturn(List.of());
+
+        // When
+        int delivered = relay(sink, 2).relay();
+
+        // Then
+        assertEquals(0, delivered);
+        assertTrue(sink.getMessages().isEmpty());
+        verify(outboxMessageRepository, never()).deleteByIdIn(any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.eventsphere.event.outbox;
+
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.OutboxMessage;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxWriterTest {
+
+    private final OutboxMessageRepository outboxMessageRepository = mock(OutboxMessageRepository.class);
+
+    private final OutboxWriter outboxWriter = new OutboxWriter(outboxMessageRepository, new ObjectMapper());
+
+    @Test
+    void eventChangeIsWrittenToOutbox() {
+        // Given
+        Event event = Event.builder().id(7L).title("Concert").version(2L).category(new Category(3L, "Music")).build();
+        EventChange change =
+                EventChange.updated(EventView.of(event), EnumSet.of(EventField.TITLE, EventField.CATEGORY), 2L);
+
+        // When
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            outboxWriter.onEventChange(change);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Then
+        ArgumentCaptor<OutboxMessage> message = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxMessageRepository).save(message.capture());
+        assertEquals(7L, message.getValue().getEventId());
+        assertEquals(3L, message.getValue().getCategoryId());
+        assertEquals(2L, message.getValue().getEventVersion());
+        assertEquals(ChangeType.UPDATED, message.getValue().getChangeType());
+        assertEquals("TITLE,CATEGORY", message.getValue().getChangedFields());
+        assertTrue(message.getValue().getPayload().contains("\"Concert\""));
+    }
+
+    @Test
+    void eventChangeOutsideTransactionFails() {
+        // Given
+        EventChange change = EventChange.created(EventView.of(Event.builder().id(7L).build()));
+
+        // When and Then
+        assertThrows(IllegalStateException.class, () -> outboxWriter.onEventChange(change));
+        verifyNoInteractions(outboxMessageRepository);
+    }
+}
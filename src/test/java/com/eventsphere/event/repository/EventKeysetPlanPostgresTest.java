@@ -0,0 +1,126 @@
+package com.eventsphere.event.repository;
+
+import com.eventsphere.event.model.dto.EventView;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Time;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Explains the keyset page query Hibernate generates on an embedded PostgreSQL migrated by Flyway, so a
+ * predicate the planner cannot turn into an index range start fails the build instead of slowing deep pages.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.schemas=event_service_schema",
+        "spring.flyway.default-schema=event_service_schema",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.default_schema=event_service_schema",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.eventsphere.event.repository.EventKeysetPlanPostgresTest$LastStatement"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventKeysetPlanPostgresTest {
+
+    private static final int SEEDED_EVENTS = 20_000;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=event_service_schema");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO \"event\" (creator_id, category_id, title, location, date, time) " +
+                "SELECT 1, (SELECT MIN(id) FROM category), 'Seeded ' || n, 'City Concert Hall', " +
+                "DATE '2124-01-01' + n / 10, TIME WITH TIME ZONE '19:00:00+00' " +
+                "FROM generate_series(1, ?) n", SEEDED_EVENTS);
+        jdbcTemplate.execute("ANALYZE \"event\"");
+    }
+
+    @Test
+    void deepCursorStartsAnIndexRangeScan() {
+        // Given
+        Map<String, Object> cursor = jdbcTemplate.queryForMap(
+                "SELECT id, date, time FROM \"event\" WHERE title = 'Seeded 15000'");
+        Date date = (Date) cursor.get("date");
+        Time time = (Time) cursor.get("time");
+        Long id = ((Number) cursor.get("id")).longValue();
+
+        // When
+        List<EventView> page = eventRepository.findPageAfter(date, time, id, PageRequest.of(0, 20)).getContent();
+        String sql = LastStatement.sql;
+        String plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters(sql, date, time, id))
+                .stream()
+                .collect(Collectors.joining("\n"));
+
+        // Then
+        assertEquals("Seeded 15001", page.get(0).getTitle());
+        assertTrue(plan.contains("Index Scan using idx_event_date_time_id"), plan);
+        assertTrue(plan.contains("Index Cond: (ROW("), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    /**
+     * Bind the keyset position, then the page size, to the placeholders of the captured statement.
+     */
+    private static Object[] parameters(String sql, Date date, Time time, Long id) {
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Object[] keyset = {date, time, id};
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = i < keyset.length ? keyset[i] : 21;
+        }
+        return parameters;
+    }
+
+    /**
+     * Keeps the last statement Hibernate prepared.
+     */
+    public static class LastStatement implements StatementInspector {
+
+        static volatile String sql;
+
+        @Override
+        public String inspect(String sql) {
+            LastStatement.sql = sql;
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.eventsphere.event.repository;
+
+import com.eventsphere.event.cache.CategoryCache;
+import com.eventsphere.event.cache.EventCountCache;
+import com.eventsphere.event.cache.EventViewCache;
+import com.eventsphere.event.cache.UpcomingEventWindow;
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.dto.adapter.EventUpdateDtoAdapter;
+import com.eventsphere.event.model.projection.CategoryEventCounts;
+import com.eventsphere.event.service.CategoryService;
+import com.eventsphere.event.service.EventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asserts the exact number of SQL statements issued by the event list paths, so N+1 regressions fail the build.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.jakarta.persistence.validation.mode=none",
+        "spring.datasource.url=jdbc:h2:mem:event-query-count;MODE=PostgreSQL;NON_KEYWORDS=DATE,TIME,VALUE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventRepositoryQueryCountTest {
+
+    private static final int CATEGORIES = 3;
+    private static final int EVENTS_PER_CATEGORY = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final List<Category> categories = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int c = 0; c < CATEGORIES; c++) {
+            Category category = new Category();
+            category.setName("Category " + c);
+            categories.add(entityManager.persist(category));
+
+            for (int e = 0; e < EVENTS_PER_CATEGORY; e++) {
+                entityManager.persist(Event.builder()
+                        .creatorId(1L)
+                        .title("Event " + c + "-" + e)
+                        .location("City Concert Hall")
+                        .date(Date.valueOf(LocalDate.now().plusDays(e + 1L)))
+                        .time(Time.valueOf("19:00:00"))
+                        .category(category)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private void touchCategories(Iterable<Event> events) {
+        for (Event event : events) {
+            event.getCategory().getName();
+        }
+    }
+
+    private void touchViewCategories(Iterable<EventView> events) {
+        for (EventView event : events) {
+            event.getCategory().getName();
+        }
+    }
+
+    @Test
+    void firstPageIsOneStatement() {
+        // When
+        Slice<EventView> slice = eventRepository.findFirstPage(PageRequest.of(0, 5));
+        touchViewCategories(slice);
+
+        // Then
+        assertEquals(5, slice.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void pageAfterCursorIsOneStatement() {
+        // Given
+        EventView first = eventRepository.findFirstPage(PageRequest.of(0, 1)).getContent().get(0);
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Slice<EventView> slice = eventRepository.findPageAfter(first.getDate(), first.getTime(), first.getId(),
+                PageRequest.of(0, 5));
+        touchViewCategories(slice);
+
+        // Then
+        assertEquals(5, slice.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void eventsByCategoryIsOneStatement() {
+        // When
+        Slice<EventView> slice = eventRepository.findByCategory(categories.get(0), PageRequest.of(0, 2));
+        touchViewCategories(slice);
+
+        // Then
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void upcomingEventsByCategoryIsOneStatement() {
+        // When
+        Slice<EventView> slice = eventRepository.findUpcomingEventsByCategory(categories.get(1), PageRequest.of(0, 2));
+        touchViewCategories(slice);
+
+        // Then
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void eventCountsForAllCategoriesAreOneStatement() {
+        // When
+        List<CategoryEventCounts> counts = eventRepository.countEventsGroupedByCategory();
+
+        // Then
+        assertEquals(CATEGORIES, counts.size());
+        for (CategoryEventCounts categoryCounts : counts) {
+            assertEquals(EVENTS_PER_CATEGORY, categoryCounts.getEventCount());
+            assertEquals(EVENTS_PER_CATEGORY, categoryCounts.getUpcomingCount());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void eventsByCategoryAreOrderedByStart() {
+        // When
+        List<EventView> events = eventRepository.findByCategory(categories.get(2), PageRequest.of(0, EVENTS_PER_CATEGORY))
+                .getContent();
+
+        // Then
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(!events.get(i).getStartsAt().before(events.get(i - 1).getStartsAt()));
+        }
+    }
+
+    @Test
+    void upcomingWindowQueriesAreOneStatementEach() {
+        // Given
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Timestamp horizon = Timestamp.valueOf(LocalDate.now().plusDays(3).atStartOfDay());
+
+        // When
+        List<EventView> events = eventRepository.findViewsStartingBetween(now, horizon);
+        Set<Long> beyond = eventRepository.findCategoryIdsStartingFrom(horizon);
+
+        // Then
+        assertEquals(CATEGORIES * 2, events.size());
+        assertEquals(CATEGORIES, beyond.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findByIdIsOneStatement() {
+        // Given
+        Long id = eventRepository.findFirstPage(PageRequest.of(0, 1)).getContent().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Event event = eventRepository.findById(id).orElseThrow();
+        event.getCategory().getName();
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findViewByIdIsOneUnmanagedStatement() {
+        // Given
+        Long id = eventRepository.findFirstPage(PageRequest.of(0, 1)).getContent().get(0).getId();
+        statistics.clear();
+
+        // When
+        EventView event = eventRepository.findViewById(id).orElseThrow();
+
+        // Then
+        assertEquals(categories.get(0).getName(), event.getCategory().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findViewsByIdIsOneUnmanagedStatement() {
+        // Given
+        List<Long> ids = eventRepository.findFirstPage(PageRequest.of(0, 6)).getContent().stream()
+                .map(EventView::getId)
+                .toList();
+        statistics.clear();
+
+        // When
+        List<EventView> events = eventRepository.findViewsByIdIn(ids);
+
+        // Then
+        assertEquals(ids.size(), events.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void titleOnlyUpdateIsOneSelectAndOneUpdate() {
+        // Given
+        CategoryService categoryService = new CategoryService(categoryRepository, eventRepository,
+                new CategoryCache(100, Duration.ofMinutes(5), Duration.ZERO, new SimpleMeterRegistry()),
+                new EventCountCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                new UpcomingEventWindow(eventRepository, false, Duration.ofDays(21), new SimpleMeterRegistry()),
+                event -> { });
+        EventService eventService = new EventService(eventRepository, null,
+                new EventUpdateDtoAdapter(categoryService), categoryService, event -> { },
+                new EventViewCache(100, Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry()));
+        Long id = eventRepository.findFirstPage(PageRequest.of(0, 1)).getContent().get(0).getId();
+        categoryService.get(categories.get(0).getId());
+        entityManager.clear();
+        statistics.clear();
+
+        EventUpdateDto patch = new EventUpdateDto();
+        patch.setTitle("Renamed event");
+
+        // When
+        EventView updated = eventService.update(id, patch, null);
+
+        // Then
+        assertEquals("Renamed event", updated.getTitle());
+        assertEquals(categories.get(0).getName(), updated.getCategory().getName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void findAllByIdIsOneStatement() {
+        // Given
+        List<Long> ids = eventRepository.findFirstPage(PageRequest.of(0, 6)).getContent().stream()
+                .map(EventView::getId)
+                .toList();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<Event> events = eventRepository.findAllById(ids);
+        touchCategories(events);
+
+        // Then
+        assertEquals(ids.size(), events.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
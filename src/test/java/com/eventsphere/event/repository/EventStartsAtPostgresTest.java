@@ -0,0 +1,94 @@
+package com.eventsphere.event.repository;
+
+import com.eventsphere.event.model.Event;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks on an embedded PostgreSQL migrated by Flyway that {@link Event#startsAt} and the SQL rule of the
+ * migrations, {@code date + time}, agree for a time stored with an offset other than the session time zone's.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.schemas=event_service_schema",
+        "spring.flyway.default-schema=event_service_schema",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.default_schema=event_service_schema"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventStartsAtPostgresTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=event_service_schema");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void migratedStartsMatchTheSqlRule() {
+        // When
+        Long mismatches = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"event\" " +
+                "WHERE date IS NOT NULL AND time IS NOT NULL AND starts_at IS DISTINCT FROM date + time", Long.class);
+
+        // Then
+        assertEquals(0L, mismatches);
+    }
+
+    @Test
+    void javaAndSqlAgreeOnATimeWithAnotherOffset() {
+        // Given
+        Long id = jdbcTemplate.queryForObject("INSERT INTO \"event\" " +
+                "(creator_id, category_id, title, location, date, time, starts_at) " +
+                "SELECT 1, MIN(id), 'Offset Night', 'City Concert Hall', DATE '2123-06-15', " +
+                "TIME WITH TIME ZONE '19:00:00+05:30', DATE '2123-06-15' + TIME WITH TIME ZONE '19:00:00+05:30' " +
+                "FROM category RETURNING id", Long.class);
+
+        // When
+        Event event = eventRepository.findById(id).orElseThrow();
+        event.setTitle("Offset Night Moved");
+        entityManager.flush();
+
+        // Then
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "SELECT starts_at, date + time AS stored_start FROM \"event\" WHERE id = ?", id);
+        Instant start = Instant.parse("2123-06-15T13:30:00Z");
+        assertEquals(start, Event.startsAt(event.getDate(), event.getTime()).toInstant());
+        assertEquals(start, ((Timestamp) stored.get("starts_at")).toInstant());
+        assertEquals(start, ((Timestamp) stored.get("stored_start")).toInstant());
+    }
+}
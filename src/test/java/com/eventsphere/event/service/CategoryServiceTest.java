@@ -1,23 +1,33 @@
 package com.eventsphere.event.service;
 
+import com.eventsphere.event.cache.CategoryCache;
+import com.eventsphere.event.cache.EventCountCache;
+import com.eventsphere.event.cache.UpcomingEventWindow;
 import com.eventsphere.event.exception.AlreadyExistsException;
 import com.eventsphere.event.exception.CategoryNotFoundException;
 import com.eventsphere.event.exception.CategoryNotValidException;
 import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.ChangeType;
 import com.eventsphere.event.model.Event;
 import com.eventsphere.event.model.dto.CategoryDto;
+import com.eventsphere.event.model.dto.CategoryWithEventsDto;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.CategoryEventCounts;
 import com.eventsphere.event.repository.CategoryRepository;
 import com.eventsphere.event.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,41 +44,155 @@ class CategoryServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private UpcomingEventWindow upcomingEventWindow;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CategoryCache categoryCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        categoryService = new CategoryService(categoryRepository, eventRepository);
+        categoryCache = new CategoryCache(100, Duration.ofMinutes(5), Duration.ZERO, new SimpleMeterRegistry());
+        EventCountCache eventCountCache = new EventCountCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        categoryService = new CategoryService(categoryRepository, eventRepository, categoryCache, eventCountCache,
+                upcomingEventWindow, eventPublisher);
     }
 
     @Test
     void getAllCategories() {
         // Given
-        List<Category> expectedCategories = new ArrayList<>();
+        List<Category> expectedCategories = List.of(new Category(1L, "Music"), new Category(2L, "Sports"));
         when(categoryRepository.findAll()).thenReturn(expectedCategories);
 
         // When
         List<Category> actualCategories = categoryService.getAll();
 
         // Then
-        assertSame(expectedCategories, actualCategories);
+        assertEquals(expectedCategories, actualCategories);
         verify(categoryRepository).findAll();
     }
 
+    @Test
+    void getAllCategoriesIsServedFromCache() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(new Category(1L, "Music")));
+
+        // When
+        categoryService.getAll();
+        List<Category> actualCategories = categoryService.getAll();
+
+        // Then
+        assertEquals(1, actualCategories.size());
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getAllWithEventCountsUsesOneAggregateQuery() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(new Category(1L, "Music"), new Category(2L, "Sports")));
+        CategoryEventCounts musicCounts = mock(CategoryEventCounts.class);
+        when(musicCounts.getCategoryId()).thenReturn(1L);
+        when(musicCounts.getEventCount()).thenReturn(5L);
+        when(musicCounts.getUpcomingCount()).thenReturn(2L);
+        when(eventRepository.countEventsGroupedByCategory()).thenReturn(List.of(musicCounts));
+
+        // When
+        List<Category> actualCategories = categoryService.getAllWithEventCounts();
+
+        // Then
+        assertEquals(5L, actualCategories.get(0).getEventCount());
+        assertEquals(2L, actualCategories.get(0).getUpcomingCount());
+        assertEquals(0L, actualCategories.get(1).getEventCount());
+        assertEquals(0L, actualCategories.get(1).getUpcomingCount());
+        verify(eventRepository).countEventsGroupedByCategory();
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getAllWithEventCountsServesCountsFromCache() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(new Category(1L, "Music")));
+        when(eventRepository.countEventsGroupedByCategory()).thenReturn(List.of());
+
+        // When
+        categoryService.getAllWithEventCounts();
+        List<Category> actualCategories = categoryService.getAllWithEventCounts();
+
+        // Then
+        assertEquals(0L, actualCategories.get(0).getEventCount());
+        verify(eventRepository, times(1)).countEventsGroupedByCategory();
+    }
+
     @Test
     void getExistingCategoryById() {
         // Given
         Long categoryId = 1L;
-        Category expectedCategory = new Category();
+        Category expectedCategory = new Category(categoryId, "Music");
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(expectedCategory));
 
         // When
         Category actualCategory = categoryService.get(categoryId);
 
         // Then
-        assertSame(expectedCategory, actualCategory);
+        assertEquals(expectedCategory, actualCategory);
+        assertEquals(expectedCategory.getName(), actualCategory.getName());
         verify(categoryRepository).findById(categoryId);
     }
 
+    @Test
+    void getCategoryByNameAfterByIdIsServedFromCache() {
+        // Given
+        Long categoryId = 1L;
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(new Category(categoryId, "Music")));
+
+        // When
+        categoryService.get(categoryId);
+        categoryService.get(categoryId);
+        Category actualCategory = categoryService.get("Music");
+
+        // Then
+        assertEquals(categoryId, actualCategory.getId());
+        verify(categoryRepository, times(1)).findById(categoryId);
+        verify(categoryRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    void cachedCategoryIsNotSharedWithCallers() {
+        // Given
+        Long categoryId = 1L;
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(new Category(categoryId, "Music")));
+
+        // When
+        Category first = categoryService.get(categoryId);
+        first.setName("Changed");
+        Category second = categoryService.get(categoryId);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("Music", second.getName());
+    }
+
+    @Test
+    void createInvalidatesCache() {
+        // Given
+        Category category = new Category();
+        category.setName("New Category");
+        when(categoryRepository.findAll()).thenReturn(new ArrayList<>());
+        when(categoryRepository.existsByName("New Category")).thenReturn(false);
+        when(categoryRepository.save(category)).thenReturn(new Category(3L, "New Category"));
+
+        // When
+        categoryService.getAll();
+        categoryService.create(category);
+        categoryService.getAll();
+
+        // Then
+        verify(categoryRepository, times(2)).findAll();
+    }
+
     @Test
     void getNonExistingCategoryById() {
         // Given
@@ -87,20 +211,63 @@ class CategoryServiceTest {
         int page = 0;
         int size = 10;
         boolean upcoming = true;
-        Category expectedCategory = new Category();
-        Page<Event> eventsPage = new PageImpl<>(new ArrayList<>());
+        Category expectedCategory = new Category(categoryId, "Music");
+        List<EventView> events = List.of(EventView.of(Event.builder().id(2L).build()),
+                EventView.of(Event.builder().id(1L).build()));
+        Slice<EventView> eventsSlice = new SliceImpl<>(events, PageRequest.of(page, size), true);
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(expectedCategory));
         when(eventRepository.findUpcomingEventsByCategory(expectedCategory, PageRequest.of(page, size)))
-                .thenReturn(eventsPage);
+                .thenReturn(eventsSlice);
 
         // When
-        Category actualCategory = categoryService.getWithEvents(categoryId, page, size, upcoming);
+        CategoryWithEventsDto actual = categoryService.getWithEvents(categoryId, page, size, upcoming, false);
 
         // Then
-        assertSame(expectedCategory, actualCategory);
-        assertEquals(new HashSet<>(eventsPage.getContent()), actualCategory.getEvents());
+        assertEquals(expectedCategory.getId(), actual.getId());
+        assertEquals(events, actual.getEvents());
+        assertTrue(actual.isHasNext());
+        assertNull(actual.getTotalEvents());
         verify(categoryRepository).findById(categoryId);
         verify(eventRepository).findUpcomingEventsByCategory(expectedCategory, PageRequest.of(page, size));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getCategoryWithUpcomingEventsFromWindow() {
+        // Given
+        Long categoryId = 1L;
+        Category expectedCategory = new Category(categoryId, "Music");
+        Slice<EventView> eventsSlice = new SliceImpl<>(List.of(EventView.of(Event.builder().id(1L).build())),
+                PageRequest.of(0, 10), false);
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(expectedCategory));
+        when(upcomingEventWindow.findUpcoming(categoryId, PageRequest.of(0, 10))).thenReturn(Optional.of(eventsSlice));
+
+        // When
+        CategoryWithEventsDto actual = categoryService.getWithEvents(categoryId, 0, 10, true, false);
+
+        // Then
+        assertEquals(eventsSlice.getContent(), actual.getEvents());
+        assertFalse(actual.isHasNext());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getCategoryWithEventsAndCachedTotal() {
+        // Given
+        Long categoryId = 1L;
+        Category expectedCategory = new Category(categoryId, "Music");
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(expectedCategory));
+        when(eventRepository.findByCategory(expectedCategory, PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, 10), false));
+        when(eventRepository.countByCategory(expectedCategory)).thenReturn(42L);
+
+        // When
+        categoryService.getWithEvents(categoryId, 0, 10, false, true);
+        CategoryWithEventsDto actual = categoryService.getWithEvents(categoryId, 0, 10, false, true);
+
+        // Then
+        assertEquals(42L, actual.getTotalEvents());
+        verify(eventRepository, times(1)).countByCategory(expectedCategory);
     }
 
     @Test
@@ -114,7 +281,7 @@ class CategoryServiceTest {
 
         // When and Then
         assertThrows(CategoryNotFoundException.class,
-                () -> categoryService.getWithEvents(categoryId, page, size, upcoming));
+                () -> categoryService.getWithEvents(categoryId, page, size, upcoming, false));
         verify(categoryRepository).findById(categoryId);
         verifyNoInteractions(eventRepository);
     }
@@ -123,14 +290,14 @@ class CategoryServiceTest {
     void getExistingCategoryByName() {
         // Given
         String categoryName = "Test Category";
-        Category expectedCategory = new Category();
+        Category expectedCategory = new Category(1L, categoryName);
         when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(expectedCategory));
 
         // When
         Category actualCategory = categoryService.get(categoryName);
 
         // Then
-        assertSame(expectedCategory, actualCategory);
+        assertEquals(expectedCategory, actualCategory);
         verify(categoryRepository).findByName(categoryName);
     }
 
@@ -188,6 +355,7 @@ class CategoryServiceTest {
         assertSame(savedCategory, result);
         verify(categoryRepository).existsByName(categoryName);
         verify(categoryRepository).save(category);
+        verify(eventPublisher).publishEvent(argThat((CategoryChange change) -> change.getType() == ChangeType.CREATED));
     }
 
     @Test
@@ -281,6 +449,8 @@ class CategoryServiceTest {
         // Then
         verify(categoryRepository).existsById(categoryId);
         verify(categoryRepository).deleteById(categoryId);
+        verify(eventPublisher).publishEvent(argThat((CategoryChange change) ->
+                change.getType() == ChangeType.DELETED && change.getCategoryId().equals(categoryId)));
     }
 
     @Test
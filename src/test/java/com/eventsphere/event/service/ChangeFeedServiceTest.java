@@ -0,0 +1,223 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.CategoryChange;
+import com.eventsphere.event.model.ChangeType;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.ChangeNotificationDto;
+import com.eventsphere.event.model.dto.EventView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedServiceTest {
+
+    private static final String EPOCH = "boot1";
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private ChangeFeedService service(Executor executor, int bufferSize, int replaySize) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new ChangeFeedService(executor, EPOCH, bufferSize, replaySize, Duration.ofMinutes(1), meterRegistry) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static EventChange eventCreated(long id, long categoryId) {
+        Event event = Event.builder().id(id).category(new Category(categoryId, "Category")).build();
+        return EventChange.created(EventView.of(event));
+    }
+
+    @Test
+    void subscriberReceivesChangesInOrder() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 10);
+        feed.subscribe(null, null);
+
+        // When
+        feed.onEventChange(eventCreated(1L, 1L));
+        feed.onEventChange(EventChange.updated(EventView.of(Event.builder().id(1L).build()),
+                EnumSet.of(EventField.TITLE), null));
+        feed.onCategoryChange(CategoryChange.deleted(2L));
+
+        // Then
+        List<ChangeNotificationDto> sent = emitters.get(0).notifications;
+        assertEquals(List.of(1L, 2L, 3L), sent.stream().map(ChangeNotificationDto::getId).toList());
+        assertEquals(ChangeType.UPDATED, sent.get(1).getType());
+        assertEquals(EnumSet.of(EventField.TITLE), sent.get(1).getFields());
+        assertEquals(ChangeNotificationDto.Entity.CATEGORY, sent.get(2).getEntity());
+    }
+
+    @Test
+    void subscriberOnlyReceivesItsCategory() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 10);
+        feed.subscribe(1L, null);
+
+        // When
+        feed.onEventChange(eventCreated(1L, 1L));
+        feed.onEventChange(eventCreated(2L, 2L));
+        feed.onCategoryChange(CategoryChange.updated(1L));
+
+        // Then
+        assertEquals(List.of(1L, 1L), emitters.get(0).notifications.stream()
+                .map(ChangeNotificationDto::getCategoryId).toList());
+    }
+
+    @Test
+    void eventMovedOutOfCategoryIsSentToItsSubscribers() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 10);
+        feed.subscribe(1L, null);
+        feed.subscribe(2L, null);
+        feed.subscribe(3L, null);
+        Event moved = Event.builder().id(1L).category(new Category(2L, "Category")).build();
+
+        // When
+        feed.onEventChange(EventChange.updated(EventView.of(moved), EnumSet.of(EventField.CATEGORY), 1L));
+
+        // Then
+        ChangeNotificationDto left = emitters.get(0).notifications.get(0);
+        assertEquals(2L, left.getCategoryId());
+        assertEquals(1L, left.getPreviousCategoryId());
+        assertEquals(1, emitters.get(1).notifications.size());
+        assertTrue(emitters.get(2).notifications.isEmpty());
+    }
+
+    @Test
+    void resumeReplaysMissedChanges() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 10);
+        feed.onEventChange(eventCreated(1L, 1L));
+        feed.onEventChange(eventCreated(2L, 1L));
+        feed.onEventChange(eventCreated(3L, 1L));
+
+        // When
+        feed.subscribe(null, EPOCH + ":1");
+
+        // Then
+        assertEquals(List.of(2L, 3L), emitters.get(0).notifications.stream()
+                .map(ChangeNotificationDto::getId).toList());
+    }
+
+    @Test
+    void resumeFromBeforeRingBufferSendsReset() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 2);
+        for (long id = 1; id <= 5; id++) {
+            feed.onEventChange(eventCreated(id, 1L));
+        }
+
+        // When
+        feed.subscribe(null, EPOCH + ":1");
+
+        // Then
+        assertTrue(emitters.get(0).notifications.isEmpty());
+        assertEquals(1, emitters.get(0).sent);
+    }
+
+    @Test
+    void resumeWithIdOfAnotherBootSendsReset() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 10);
+        feed.onEventChange(eventCreated(1L, 1L));
+
+        // When
+        feed.subscribe(null, "boot0:5");
+        feed.subscribe(null, EPOCH + ":5");
+        feed.subscribe(null, "5");
+
+        // Then
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.notifications.isEmpty());
+            assertEquals(1, emitter.sent);
+        }
+    }
+
+    @Test
+    void importIsSentToEverySubscriber() {
+        // Given
+        ChangeFeedService feed = service(Runnable::run, 10, 10);
+        feed.subscribe(null, null);
+        feed.subscribe(2L, null);
+
+        // When
+        feed.onEventsImported(new EventsImported(5));
+
+        // Then
+        for (RecordingEmitter emitter : emitters) {
+            ChangeNotificationDto notification = emitter.notifications.get(0);
+            assertEquals(5L, notification.getCount());
+            assertNull(notification.getEntityId());
+            assertTrue(emitter.events.get(0).contains("event:" + ChangeFeedService.RESET_EVENT + "\n"));
+        }
+    }
+
+    @Test
+    void slowSubscriberIsDisconnected() {
+        // Given
+        List<Runnable> pendingSends = new ArrayList<>();
+        ChangeFeedService feed = service(pendingSends::add, 2, 10);
+        feed.subscribe(null, null);
+
+        // When
+        feed.onEventChange(eventCreated(1L, 1L));
+        feed.onEventChange(eventCreated(2L, 1L));
+        feed.onEventChange(eventCreated(3L, 1L));
+        feed.onEventChange(eventCreated(4L, 1L));
+
+        // Then
+        assertFalse(emitters.get(0).completed);
+        assertEquals(1, pendingSends.size());
+        pendingSends.get(0).run();
+        assertTrue(emitters.get(0).completed);
+        assertTrue(emitters.get(0).notifications.isEmpty());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<ChangeNotificationDto> notifications = new ArrayList<>();
+        private final List<String> events = new ArrayList<>();
+        private int sent;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent++;
+            Set<DataWithMediaType> data = builder.build();
+            events.add(data.stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .collect(Collectors.joining()));
+            data.stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(ChangeNotificationDto.class::isInstance)
+                    .map(ChangeNotificationDto.class::cast)
+                    .forEach(notifications::add);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.exception.CategoryNotFoundException;
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.dto.EventBatchItemResultDto;
+import com.eventsphere.event.model.dto.EventBatchResultDto;
+import com.eventsphere.event.model.dto.EventCreateDto;
+import com.eventsphere.event.model.dto.adapter.EventCreateDtoAdapter;
+import com.eventsphere.event.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EventBatchServiceTest {
+
+    private EventBatchService eventBatchService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventBatchService = new EventBatchService(eventRepository, new EventCreateDtoAdapter(categoryService),
+                categoryService, Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                eventPublisher);
+
+        AtomicLong ids = new AtomicLong();
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            events.forEach(event -> event.setId(ids.incrementAndGet()));
+            return new ArrayList<>(events);
+        });
+    }
+
+    private EventCreateDto dto(String title, String category) {
+        return new EventCreateDto(1L, title, "Description", null, "City Concert Hall",
+                Date.valueOf("2123-06-15"), Time.valueOf("19:00:00"), category);
+    }
+
+    @Test
+    void createBatchResolvesEachCategoryOnce() {
+        // Given
+        when(categoryService.get("Music")).thenReturn(new Category(1L, "Music"));
+        List<EventCreateDto> dtos = List.of(dto("First", "Music"), dto("Second", "Music"), dto("Third", "Music"));
+
+        // When
+        EventBatchResultDto result = eventBatchService.create(dtos);
+
+        // Then
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getRejected());
+        assertEquals(List.of(1L, 2L, 3L), result.getItems().stream().map(EventBatchItemResultDto::getId).toList());
+        verify(categoryService, times(1)).get("Music");
+        verify(eventRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(EventChange.class));
+    }
+
+    @Test
+    void createBatchReportsInvalidItems() {
+        // Given
+        when(categoryService.get("Music")).thenReturn(new Category(1L, "Music"));
+        when(categoryService.get("Unknown")).thenThrow(new CategoryNotFoundException("Unknown"));
+        List<EventCreateDto> dtos = List.of(dto("e", "Music"), dto("Valid", "Unknown"), dto("Valid", "Music"));
+
+        // When
+        EventBatchResultDto result = eventBatchService.create(dtos);
+
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(EventBatchItemResultDto.Status.REJECTED, result.getItems().get(0).getStatus());
+        assertTrue(result.getItems().get(0).getErrors().containsKey("title"));
+        assertEquals(EventBatchItemResultDto.Status.REJECTED, result.getItems().get(1).getStatus());
+        assertTrue(result.getItems().get(1).getErrors().containsKey("category"));
+        assertEquals(EventBatchItemResultDto.Status.CREATED, result.getItems().get(2).getStatus());
+        assertEquals(2, result.getItems().get(2).getIndex());
+    }
+
+    @Test
+    void createBatchRejectsNullItems() {
+        // Given
+        when(categoryService.get("Music")).thenReturn(new Category(1L, "Music"));
+        List<EventCreateDto> dtos = Arrays.asList(null, dto("Valid", "Music"));
+
+        // When
+        EventBatchResultDto result = eventBatchService.create(dtos);
+
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getRejected());
+        assertEquals(EventBatchItemResultDto.Status.REJECTED, result.getItems().get(0).getStatus());
+        assertTrue(result.getItems().get(0).getErrors().containsKey("event"));
+        assertEquals(EventBatchItemResultDto.Status.CREATED, result.getItems().get(1).getStatus());
+    }
+
+    @Test
+    void createBatchFlushesInChunks() {
+        // Given
+        when(categoryService.get("Music")).thenReturn(new Category(1L, "Music"));
+        List<EventCreateDto> dtos = Collections.nCopies(EventBatchService.FLUSH_SIZE * 2 + 1, dto("Title", "Music"));
+
+        // When
+        EventBatchResultDto result = eventBatchService.create(dtos);
+
+        // Then
+        assertEquals(dtos.size(), result.getCreated());
+        verify(eventRepository, times(3)).saveAll(anyList());
+        verify(eventRepository, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void createBatchRejectsOversizedBatch() {
+        // Given
+        List<EventCreateDto> dtos = Collections.nCopies(EventBatchService.MAX_BATCH_SIZE + 1, dto("Title", "Music"));
+
+        // When and Then
+        assertThrows(EventNotValidException.class, () -> eventBatchService.create(dtos));
+        verifyNoInteractions(eventRepository);
+    }
+}
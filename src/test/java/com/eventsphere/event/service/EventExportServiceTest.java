@@ -0,0 +1,89 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.model.dto.EventExportDto;
+import com.eventsphere.event.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventExportServiceTest {
+
+    private EventExportService eventExportService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ObjectMapper objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        eventExportService = new EventExportService(eventRepository, objectMapper, Duration.ZERO);
+    }
+
+    private EventExportDto row(Long id, String title, String description) {
+        return new EventExportDto(id, 1L, title, description, null, "City Concert Hall",
+                Date.valueOf("2023-06-15"), Time.valueOf("19:00:00"), null, null, "Music");
+    }
+
+    @Test
+    void exportAsNdjson() throws Exception {
+        // Given
+        Stream<EventExportDto> rows = Stream.of(row(1L, "First", "One"), row(2L, "Second", "Two"));
+        when(eventRepository.streamAllForExport()).thenReturn(rows);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        eventExportService.export(out, EventExportService.Format.NDJSON);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].contains("\"title\":\"Second\""));
+        verify(eventRepository).streamAllForExport();
+    }
+
+    @Test
+    void exportAsCsvEscapesValues() throws Exception {
+        // Given
+        when(eventRepository.streamAllForExport())
+                .thenReturn(Stream.of(row(1L, "Rock, Pop", "Say \"hi\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        eventExportService.export(out, EventExportService.Format.CSV);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,creatorId,title"));
+        assertEquals("1,1,\"Rock, Pop\",\"Say \"\"hi\"\"\",,City Concert Hall,2023-06-15,19:00:00,,,Music", lines[1]);
+    }
+
+    @Test
+    void exportClosesRepositoryStream() throws Exception {
+        // Given
+        boolean[] closed = {false};
+        Stream<EventExportDto> rows = Stream.of(row(1L, "First", "One")).onClose(() -> closed[0] = true);
+        when(eventRepository.streamAllForExport()).thenReturn(rows);
+
+        // When
+        eventExportService.export(new ByteArrayOutputStream(), EventExportService.Format.NDJSON);
+
+        // Then
+        assertTrue(closed[0]);
+    }
+}
@@ -0,0 +1,134 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventsImported;
+import com.eventsphere.event.model.dto.EventImportResultDto;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the CSV import against an embedded PostgreSQL migrated by Flyway, since {@code COPY}, the staging table
+ * and the outbox insert cannot run on H2.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.schemas=event_service_schema",
+        "spring.flyway.default-schema=event_service_schema",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.default_schema=event_service_schema",
+        "eventsphere.outbox.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EventImportService.class)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@RecordApplicationEvents
+class EventImportServicePostgresTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private EventImportService eventImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=event_service_schema");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void importInsertsEventsAndOutboxMessages() {
+        // Given
+        Map<String, Object> category = jdbcTemplate.queryForMap("SELECT id, name FROM category ORDER BY id LIMIT 1");
+        Long categoryId = ((Number) category.get("id")).longValue();
+        String categoryName = (String) category.get("name");
+        when(categoryService.getAll()).thenReturn(List.of(new Category(categoryId, categoryName)));
+
+        long eventsBefore = count("SELECT COUNT(*) FROM \"event\"");
+        String csv = "creatorId,title,description,date,time,category\n"
+                + "1,Jazz Night,Live jazz,2123-06-15,19:00:00," + categoryName + "\n"
+                + "2,Rock Night,Live rock,2123-06-16,20:30:00," + categoryName + "\n"
+                + "3,Jo,Too short a title,2123-06-17,21:00:00," + categoryName + "\n";
+
+        // When
+        EventImportResultDto result =
+                eventImportService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(eventsBefore + 2, count("SELECT COUNT(*) FROM \"event\""));
+
+        Map<String, Object> jazzNight = jdbcTemplate.queryForMap(
+                "SELECT id, category_id, starts_at, date + time AS stored_start, version " +
+                        "FROM \"event\" WHERE title = 'Jazz Night'");
+        assertEquals(categoryId, ((Number) jazzNight.get("category_id")).longValue());
+        assertEquals(Event.startsAt(Date.valueOf("2123-06-15"), Time.valueOf("19:00:00")).toInstant(),
+                ((Timestamp) jazzNight.get("starts_at")).toInstant());
+        assertEquals(((Timestamp) jazzNight.get("stored_start")).toInstant(),
+                ((Timestamp) jazzNight.get("starts_at")).toInstant());
+        assertEquals(0L, ((Number) jazzNight.get("version")).longValue());
+
+        List<Map<String, Object>> outbox = jdbcTemplate.queryForList(
+                "SELECT o.category_id, o.change_type, o.event_version "
+                        + "FROM event_outbox o JOIN \"event\" e ON e.id = o.event_id "
+                        + "WHERE e.title IN ('Jazz Night', 'Rock Night')");
+        assertEquals(2, outbox.size());
+        for (Map<String, Object> message : outbox) {
+            assertEquals(categoryId, ((Number) message.get("category_id")).longValue());
+            assertEquals("CREATED", message.get("change_type"));
+            assertEquals(0L, ((Number) message.get("event_version")).longValue());
+        }
+
+        assertEquals(List.of(2L),
+                applicationEvents.stream(EventsImported.class).map(EventsImported::getCount).toList());
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventImportServiceTest {
+
+    private static final Map<String, Integer> COLUMNS = Map.of(
+            "creatorId", 0, "title", 1, "description", 2, "date", 3, "time", 4, "category", 5);
+
+    private static final Map<String, Long> CATEGORY_IDS = Map.of("Music", 1L);
+
+    private final CategoryService categoryService = mock(CategoryService.class);
+
+    private final EventImportService eventImportService = new EventImportService(categoryService,
+            Validation.buildDefaultValidatorFactory().getValidator(), mock(EntityManager.class),
+            mock(ApplicationEventPublisher.class), true, 10);
+
+    @Test
+    void validRecordBecomesCopyLine() {
+        // Given
+        List<String> record = List.of("1", "Jazz Night", "Tab\there", "2123-06-15", "19:00:00", "Music");
+
+        // When
+        EventImportService.ImportRow row = eventImportService.toRow(record, 7, COLUMNS, CATEGORY_IDS);
+
+        // Then
+        ZoneOffset offset = ZoneId.systemDefault().getRules()
+                .getOffset(Instant.ofEpochMilli(Time.valueOf("19:00:00").getTime()));
+        String time = "19:00:00.000000" + DateTimeFormatter.ofPattern("xxx").format(offset);
+        String startsAt = LocalDateTime.parse("2123-06-15T19:00:00").atOffset(offset).toInstant().toString();
+        assertNull(row.errors());
+        assertEquals("7\t1\t1\tJazz Night\tTab\\there\t\\N\t\\N\t2123-06-15\t" + time + "\t" + startsAt + "\n",
+                row.copyLine());
+    }
+
+    @Test
+    void invalidRecordIsRejectedWithAllErrors() {
+        // Given
+        List<String> record = List.of("abc", "Jo", "", "2123-13-45", "19:00:00", "Unknown");
+
+        // When
+        EventImportService.ImportRow row = eventImportService.toRow(record, 3, COLUMNS, CATEGORY_IDS);
+
+        // Then
+        assertNull(row.copyLine());
+        assertEquals(3, row.recordNumber());
+        assertTrue(row.errors().keySet().containsAll(List.of("creatorId", "title", "date", "category")));
+    }
+
+    @Test
+    void pastDateIsRejectedLikeEventCreateDto() {
+        // Given
+        List<String> record = List.of("1", "Jazz Night", "", "2000-06-15", "19:00:00", "Music");
+
+        // When
+        EventImportService.ImportRow row = eventImportService.toRow(record, 1, COLUMNS, CATEGORY_IDS);
+
+        // Then
+        assertEquals(List.of("Date can't be in the past =)"), row.errors().get("date"));
+    }
+
+    @Test
+    void csvWithoutRequiredColumnsIsRejected() {
+        // Given
+        byte[] csv = "title,date\nJazz Night,2123-06-15\n".getBytes(StandardCharsets.UTF_8);
+
+        // When and Then
+        assertThrows(EventNotValidException.class, () -> eventImportService.importCsv(new ByteArrayInputStream(csv)));
+        verifyNoInteractions(categoryService);
+    }
+}
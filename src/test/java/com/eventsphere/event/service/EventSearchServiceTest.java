@@ -0,0 +1,100 @@
+package com.eventsphere.event.service;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.dto.EventSearchPage;
+import com.eventsphere.event.model.dto.EventView;
+import com.eventsphere.event.model.projection.EventSearchHit;
+import com.eventsphere.event.repository.EventRepository;
+import com.eventsphere.event.util.EventSearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventSearchServiceTest {
+
+    private EventSearchService eventSearchService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventSearchService = new EventSearchService(eventRepository);
+    }
+
+    private EventSearchHit hit(Long id, Float rank) {
+        return new EventSearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getRank() {
+                return rank;
+            }
+        };
+    }
+
+    private EventView event(Long id) {
+        return EventView.of(Event.builder().id(id).title("Event " + id).build());
+    }
+
+    @Test
+    void searchReturnsEventsInRankOrder() {
+        // Given
+        when(eventRepository.search("concert", 3)).thenReturn(List.of(hit(2L, 0.9f), hit(1L, 0.5f)));
+        when(eventRepository.findViewsByIdIn(List.of(2L, 1L))).thenReturn(List.of(event(1L), event(2L)));
+
+        // When
+        EventSearchPage page = eventSearchService.search("concert", null, 2);
+
+        // Then
+        assertEquals(List.of(2L, 1L), page.getEvents().stream().map(EventView::getId).toList());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void searchReturnsCursorWhenMoreHitsExist() {
+        // Given
+        when(eventRepository.search("concert", 2)).thenReturn(List.of(hit(2L, 0.9f), hit(1L, 0.5f)));
+        when(eventRepository.findViewsByIdIn(List.of(2L))).thenReturn(List.of(event(2L)));
+
+        // When
+        EventSearchPage page = eventSearchService.search("concert", null, 1);
+
+        // Then
+        assertEquals(1, page.getEvents().size());
+        assertEquals(new EventSearchCursor(0.9f, 2L), EventSearchCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void searchAfterCursor() {
+        // Given
+        String after = new EventSearchCursor(0.9f, 2L).encode();
+        when(eventRepository.searchAfter("concert", 0.9f, 2L, 11)).thenReturn(List.of());
+
+        // When
+        EventSearchPage page = eventSearchService.search("concert", after, 10);
+
+        // Then
+        assertTrue(page.getEvents().isEmpty());
+        verify(eventRepository).searchAfter("concert", 0.9f, 2L, 11);
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void searchWithBlankQuery() {
+        // When and Then
+        assertThrows(EventNotValidException.class, () -> eventSearchService.search(" ", null, 10));
+        verifyNoInteractions(eventRepository);
+    }
+}
@@ -1,20 +1,37 @@
 package com.eventsphere.event.service;
 
+import com.eventsphere.event.cache.EventViewCache;
 import com.eventsphere.event.exception.EventNotFoundException;
 import com.eventsphere.event.exception.EventNotValidException;
+import com.eventsphere.event.exception.PreconditionFailedException;
+import com.eventsphere.event.model.Category;
+import com.eventsphere.event.model.ChangeType;
 import com.eventsphere.event.model.Event;
+import com.eventsphere.event.model.EventChange;
+import com.eventsphere.event.model.EventField;
 import com.eventsphere.event.model.dto.EventCreateDto;
 import com.eventsphere.event.model.dto.EventUpdateDto;
+import com.eventsphere.event.model.dto.EventView;
 import com.eventsphere.event.model.dto.adapter.EventCreateDtoAdapter;
 import com.eventsphere.event.model.dto.adapter.EventUpdateDtoAdapter;
 import com.eventsphere.event.repository.EventRepository;
+import com.eventsphere.event.util.EventCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,24 +50,70 @@ class EventServiceTest {
     @Mock
     private EventUpdateDtoAdapter eventUpdateDtoAdapter;
 
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        eventService = new EventService(eventRepository, eventCreateDtoAdapter, eventUpdateDtoAdapter);
+        eventService = new EventService(eventRepository, eventCreateDtoAdapter, eventUpdateDtoAdapter, categoryService,
+                eventPublisher,
+                new EventViewCache(100, Duration.ofMinutes(1), Duration.ZERO, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void getFirstPageOfEvents() {
+        // Given
+        Slice<EventView> expectedSlice = new SliceImpl<>(new ArrayList<>());
+        when(eventRepository.findFirstPage(PageRequest.of(0, 20))).thenReturn(expectedSlice);
+
+        // When
+        Slice<EventView> actualSlice = eventService.getPage(null, 20);
+
+        // Then
+        assertSame(expectedSlice, actualSlice);
+        verify(eventRepository).findFirstPage(PageRequest.of(0, 20));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getPageOfEventsAfterCursor() {
+        // Given
+        Date date = Date.valueOf("2023-06-15");
+        Time time = Time.valueOf("19:00:00");
+        String after = new EventCursor(date, time, 5L).encode();
+        Slice<EventView> expectedSlice = new SliceImpl<>(new ArrayList<>());
+        when(eventRepository.findPageAfter(date, time, 5L, PageRequest.of(0, 10))).thenReturn(expectedSlice);
+
+        // When
+        Slice<EventView> actualSlice = eventService.getPage(after, 10);
+
+        // Then
+        assertSame(expectedSlice, actualSlice);
+        verify(eventRepository).findPageAfter(date, time, 5L, PageRequest.of(0, 10));
     }
 
     @Test
-    void getAllEvents() {
+    void getPageOfEventsCapsLimit() {
         // Given
-        List<Event> expectedEvents = new ArrayList<>();
-        when(eventRepository.findAll()).thenReturn(expectedEvents);
+        when(eventRepository.findFirstPage(PageRequest.of(0, EventService.MAX_PAGE_SIZE)))
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         // When
-        List<Event> actualEvents = eventService.getAll();
+        eventService.getPage(null, 10_000);
 
         // Then
-        assertSame(expectedEvents, actualEvents);
-        verify(eventRepository).findAll();
+        verify(eventRepository).findFirstPage(PageRequest.of(0, EventService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void getPageOfEventsWithInvalidCursor() {
+        // When and Then
+        assertThrows(EventNotValidException.class, () -> eventService.getPage("not-a-cursor", 20));
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
@@ -68,6 +131,51 @@ class EventServiceTest {
         verify(eventRepository).findById(eventId);
     }
 
+    @Test
+    void getExistingEventView() {
+        // Given
+        Long eventId = 1L;
+        EventView expectedView = EventView.of(Event.builder().id(eventId).build());
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.of(expectedView));
+
+        // When
+        EventView actualView = eventService.getView(eventId);
+
+        // Then
+        assertEquals(expectedView, actualView);
+        assertNotSame(expectedView, actualView);
+        verify(eventRepository).findViewById(eventId);
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void conditionalGetLoadsEventViewOnce() {
+        // Given
+        Long eventId = 1L;
+        Timestamp updatedAt = Timestamp.valueOf("2026-06-01 10:00:00");
+        EventView view = EventView.of(Event.builder().id(eventId).updatedAt(updatedAt).build());
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.of(view));
+
+        // When
+        Optional<EventView> current = eventService.findView(eventId);
+        EventView actualView = eventService.getView(eventId);
+
+        // Then
+        assertEquals(Optional.of(updatedAt), current.map(EventView::getUpdatedAt));
+        assertEquals(view, actualView);
+        verify(eventRepository, times(1)).findViewById(eventId);
+    }
+
+    @Test
+    void getNonExistingEventView() {
+        // Given
+        Long eventId = 1L;
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.empty());
+
+        // When and Then
+        assertThrows(EventNotFoundException.class, () -> eventService.getView(eventId));
+    }
+
     @Test
     void getNonExistingEvent() {
         // Given
@@ -111,7 +219,7 @@ class EventServiceTest {
     void createEvent() {
         // Given
         EventCreateDto eventCreateDto = new EventCreateDto();
-        Event createdEvent = new Event();
+        Event createdEvent = Event.builder().id(1L).build();
         when(eventCreateDtoAdapter.fromDto(eventCreateDto)).thenReturn(createdEvent);
         when(eventRepository.save(createdEvent)).thenReturn(createdEvent);
 
@@ -122,6 +230,8 @@ class EventServiceTest {
         assertSame(createdEvent, savedEvent);
         verify(eventCreateDtoAdapter).fromDto(eventCreateDto);
         verify(eventRepository).save(createdEvent);
+        verify(eventPublisher).publishEvent(argThat((EventChange change) ->
+                change.getType() == ChangeType.CREATED && change.getEventId().equals(1L)));
     }
 
     @Test
@@ -129,20 +239,83 @@ class EventServiceTest {
         // Given
         Long eventId = 1L;
         EventUpdateDto eventUpdateDto = new EventUpdateDto();
-        Event existingEvent = new Event();
-        Event updatedEvent = new Event();
+        Category category = new Category(2L, "Music");
+        Event existingEvent = Event.builder().id(eventId).title("New Title").category(category).build();
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(existingEvent));
-        when(eventUpdateDtoAdapter.updateEventFromDto(existingEvent, eventUpdateDto)).thenReturn(updatedEvent);
-        when(eventRepository.save(updatedEvent)).thenReturn(updatedEvent);
+        when(eventRepository.findForUpdateById(eventId)).thenReturn(Optional.of(existingEvent));
+        when(eventUpdateDtoAdapter.updateEventFromDto(existingEvent, eventUpdateDto))
+                .thenReturn(EnumSet.of(EventField.TITLE));
+        when(categoryService.get(2L)).thenReturn(category);
 
         // When
-        Event result = eventService.update(eventId, eventUpdateDto);
+        EventView result = eventService.update(eventId, eventUpdateDto, null);
 
         // Then
-        assertSame(updatedEvent, result);
+        assertEquals("New Title", result.getTitle());
+        assertEquals("Music", result.getCategory().getName());
         verify(eventUpdateDtoAdapter).updateEventFromDto(existingEvent, eventUpdateDto);
-        verify(eventRepository).save(updatedEvent);
+        verify(eventRepository).flush();
+        verify(eventRepository, never()).save(any());
+        verify(eventRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(argThat((EventChange change) ->
+                change.getType() == ChangeType.UPDATED
+                        && change.getFields().equals(EnumSet.of(EventField.TITLE))
+                        && Long.valueOf(2L).equals(change.getPreviousCategoryId())));
+    }
+
+    @Test
+    void updateWithoutChangesWritesNothing() {
+        // Given
+        Long eventId = 1L;
+        EventUpdateDto eventUpdateDto = new EventUpdateDto();
+        Event existingEvent = Event.builder().id(eventId).build();
+
+        when(eventRepository.findForUpdateById(eventId)).thenReturn(Optional.of(existingEvent));
+        when(eventUpdateDtoAdapter.updateEventFromDto(existingEvent, eventUpdateDto))
+                .thenReturn(EnumSet.noneOf(EventField.class));
+
+        // When
+        eventService.update(eventId, eventUpdateDto, null);
+
+        // Then
+        verify(eventRepository, never()).flush();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateEventMatchingIfMatch() {
+        // Given
+        Long eventId = 1L;
+        EventUpdateDto eventUpdateDto = new EventUpdateDto();
+        Event existingEvent = Event.builder().id(eventId)
+                .updatedAt(Timestamp.valueOf("2023-06-15 19:00:00")).version(3L).build();
+        String ifMatch = "\"event-1-3-0-0+json\"";
+
+        when(eventRepository.findForUpdateById(eventId)).thenReturn(Optional.of(existingEvent));
+        when(eventUpdateDtoAdapter.updateEventFromDto(existingEvent, eventUpdateDto))
+                .thenReturn(EnumSet.of(EventField.TITLE));
+
+        // When
+        EventView result = eventService.update(eventId, eventUpdateDto, ifMatch);
+
+        // Then
+        assertEquals(eventId, result.getId());
+        verify(eventRepository).flush();
+    }
+
+    @Test
+    void updateStaleEventFailsPrecondition() {
+        // Given
+        Long eventId = 1L;
+        EventUpdateDto eventUpdateDto = new EventUpdateDto();
+        Event existingEvent = Event.builder().id(eventId)
+                .updatedAt(Timestamp.valueOf("2023-06-15 19:00:00")).version(3L).build();
+        when(eventRepository.findForUpdateById(eventId)).thenReturn(Optional.of(existingEvent));
+
+        // When and Then
+        assertThrows(PreconditionFailedException.class,
+                () -> eventService.update(eventId, eventUpdateDto, "\"event-1-2-0-0+json\""));
+        verifyNoInteractions(eventUpdateDtoAdapter);
     }
 
     @Test
@@ -150,10 +323,10 @@ class EventServiceTest {
         // Given
         Long eventId = 1L;
         EventUpdateDto eventUpdateDto = new EventUpdateDto();
-        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+        when(eventRepository.findForUpdateById(eventId)).thenReturn(Optional.empty());
 
         // When and Then
-        assertThrows(EventNotFoundException.class, () -> eventService.update(eventId, eventUpdateDto));
+        assertThrows(EventNotFoundException.class, () -> eventService.update(eventId, eventUpdateDto, null));
         verifyNoInteractions(eventUpdateDtoAdapter);
     }
 
@@ -161,24 +334,27 @@ class EventServiceTest {
     void deleteExistingEvent() {
         // Given
         Long eventId = 1L;
-        when(eventRepository.existsById(eventId)).thenReturn(true);
+        EventView event = EventView.of(Event.builder().id(eventId).category(new Category(2L, "Music")).build());
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.of(event));
 
         // When
         eventService.delete(eventId);
 
         // Then
-        verify(eventRepository).existsById(eventId);
+        verify(eventRepository).findViewById(eventId);
         verify(eventRepository).deleteById(eventId);
+        verify(eventPublisher).publishEvent(argThat((EventChange change) ->
+                change.getType() == ChangeType.DELETED && change.getEvent().getCategory().getId().equals(2L)));
     }
 
     @Test
     void deleteNonExistingEvent() {
         // Given
         Long eventId = 1L;
-        when(eventRepository.existsById(eventId)).thenReturn(false);
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.empty());
 
         // When and Then
         assertThrows(EventNotFoundException.class, () -> eventService.delete(eventId));
-        verify(eventRepository).existsById(eventId);
+        verify(eventRepository, never()).deleteById(eventId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.eventsphere.event.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainAndQuotedFields() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\r\n\"x,1\",\"say \"\"hi\"\"\",\"two\nlines\"\n"));
+
+        // When and Then
+        assertEquals(List.of("a", "b", "", "c"), reader.next());
+        assertEquals(List.of("x,1", "say \"hi\"", "two\nlines"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void readsLastRecordWithoutLineBreak() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,b"));
+
+        // When and Then
+        assertEquals(List.of("a", "b"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void unterminatedQuoteFails() {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("\"open,field\n"));
+
+        // When and Then
+        assertThrows(IOException.class, reader::next);
+    }
+}
@@ -0,0 +1,40 @@
+package com.eventsphere.event.util;
+
+import com.eventsphere.event.exception.EventNotValidException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.Time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        // Given
+        EventCursor cursor = new EventCursor(Date.valueOf("2023-06-15"), Time.valueOf("19:00:00"), 42L);
+
+        // When
+        EventCursor decoded = EventCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decodeMalformedCursor() {
+        // When and Then
+        assertThrows(EventNotValidException.class, () -> EventCursor.decode("@@@"));
+    }
+
+    @Test
+    void decodeCursorWithoutTime() {
+        // Given
+        String token = new EventCursor(Date.valueOf("2023-06-15"), null, 42L).encode();
+
+        // When and Then
+        assertThrows(EventNotValidException.class, () -> EventCursor.decode(token));
+    }
+}
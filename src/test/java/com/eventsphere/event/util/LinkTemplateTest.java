@@ -0,0 +1,44 @@
+package com.eventsphere.event.util;
+
+import com.eventsphere.event.controller.EventController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplateTest {
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void itemLinkMatchesMethodOnLink() {
+        // When
+        Link link = LinkTemplate.of(EventController.class).item(42L, "get-event");
+
+        // Then
+        Link expected = linkTo(methodOn(EventController.class).getEvent(42L, null)).withRel("get-event");
+        assertEquals(expected, link);
+    }
+
+    @Test
+    void templateIsCachedPerRequest() {
+        // When and Then
+        assertSame(LinkTemplate.of(EventController.class), LinkTemplate.of(EventController.class));
+    }
+}